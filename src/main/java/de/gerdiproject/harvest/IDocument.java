@@ -15,6 +15,12 @@
  */
 package de.gerdiproject.harvest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * The interface for harvested documents.
  *
@@ -38,4 +44,35 @@ public interface IDocument
      * @return a JSON representation of the document
      */
     String toJson();
+
+
+    /**
+     * Appends a JSON representation of the document to a specified {@linkplain Appendable}.
+     * Implementations should override this method in order to write the JSON directly,
+     * without creating an intermediate {@linkplain String}.
+     *
+     * @param out the {@linkplain Appendable} to which the JSON representation is appended
+     *
+     * @throws IOException thrown when the JSON could not be appended
+     */
+    default void toJson(final Appendable out) throws IOException
+    {
+        out.append(toJson());
+    }
+
+
+    /**
+     * Writes a UTF-8 encoded JSON representation of the document to a specified {@linkplain OutputStream}.
+     * The stream is flushed, but not closed.
+     *
+     * @param out the {@linkplain OutputStream} to which the JSON representation is written
+     *
+     * @throws IOException thrown when the JSON could not be written
+     */
+    default void writeJson(final OutputStream out) throws IOException
+    {
+        final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        toJson(writer);
+        writer.flush();
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest;
+
+import de.gerdiproject.harvest.utils.CollectionUtils;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+
+/**
+ * This marker interface represents value objects that are often equal across many
+ * documents and may therefore be replaced by a single, shared instance.
+ * If a {@linkplain FlyweightCache} is set via {@linkplain CollectionUtils#setFlyweightCache(FlyweightCache)},
+ * equal instances of implementing classes are replaced by the same canonical instance.
+ * Canonical instances are marked as shared and reject all further modifications,
+ * because a change would affect every document that references them.
+ *
+ * @author Robin Weiss
+ */
+public interface IFlyweight
+{
+    /**
+     * Marks this object as shared by multiple documents.
+     * Afterwards, all setters throw an {@linkplain UnsupportedOperationException}.
+     */
+    void share();
+
+
+    /**
+     * Checks if this object is shared by multiple documents and cannot be modified.
+     *
+     * @return true if this object is shared and cannot be modified
+     */
+    boolean isShared();
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.constants;
+
+import de.gerdiproject.harvest.utils.cache.BoundedCache;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class contains constants used by {@linkplain BoundedCache} and related classes.
+ *
+ * @author Robin Weiss
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheConstants
+{
+    public static final String INVALID_CAPACITY_ERROR = "The capacity of a cache must be greater than zero!";
+    public static final String INVALID_POOL_CAPACITY_ERROR = "The capacity of a pool must be greater than zero!";
+    public static final String MISSING_EVICTION_POLICY_ERROR = "The eviction policy of a cache must not be null!";
+    public static final String SHARED_FLYWEIGHT_ERROR = "Cannot modify a shared %s, because other documents may reference it! Create a new instance instead.";
+    public static final float LOAD_FACTOR = 0.75f;
+
+    public static final int MAX_INTERNER_CAPACITY = 1 << 30;
+    public static final int MAX_INTERNED_STRING_LENGTH = 256;
+}
@@ -30,4 +30,6 @@ public class CollectionConstants
 {
     public static final String REMOVED_INVALID_OBJECT = "Discarded %s, because it was deemed invalid:%n%s";
     public static final String REMOVED_DUPLICATE_OBJECT = "Discarded %s, because it is a duplicate:%n%s";
+    public static final int COMPACT_SET_THRESHOLD = 8;
+    public static final String INDEX_OUT_OF_BOUNDS_ERROR = "Index %d is not within the range [0, %d)!";
 }
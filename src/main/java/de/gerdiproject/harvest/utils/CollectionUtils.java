@@ -16,19 +16,26 @@
  */
 package de.gerdiproject.harvest.utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.gerdiproject.harvest.ICleanable;
+import de.gerdiproject.harvest.IFlyweight;
 import de.gerdiproject.harvest.constants.CollectionConstants;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+import de.gerdiproject.harvest.utils.collections.CompactSet;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -42,10 +49,13 @@ public class CollectionUtils
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(CollectionUtils.class);
 
+    private static volatile FlyweightCache flyweightCache;
+
     /**
      * Static helper that adds elements to an existing {@linkplain Set}, or
-     * creates a new {@linkplain HashSet} if nothing was added before. Also removes null elements
+     * creates a new {@linkplain CompactSet} if nothing was added before. Also removes null elements
      * and cleans the items prior to adding them, if they implement {@linkplain ICleanable}.
+     * Cleaned {@linkplain IFlyweight}s are replaced by their canonical instances.
      *
      * @param set the set to which the elements are added, or null if no set exists yet
      * @param addedElements the elements that are to be added
@@ -60,13 +70,13 @@ public class CollectionUtils
             return set;
 
         // create a new set or use an existing one
-        final Set<T> tempSet = (set == null) ? new HashSet<>() : set;
+        final Set<T> tempSet = (set == null) ? new CompactSet<>() : set;
         final boolean isLogging = LOGGER.isDebugEnabled();
 
         // attempt to clean and validate each element
         for (final T element : addedElements) {
             if (validateAndLogElement(element, isLogging))
-                tempSet.add(element);
+                tempSet.add(canonicalize(element));
         }
 
         return tempSet.isEmpty() ? null : tempSet;
@@ -75,9 +85,10 @@ public class CollectionUtils
 
     /**
      * Static helper that adds elements to an existing {@linkplain List}, or
-     * creates a new {@linkplain LinkedList} if nothing was added before. Also removes null- and duplicate
+     * creates a new {@linkplain ArrayList} if nothing was added before. Also removes null- and duplicate
      * elements and cleans the items prior to adding them, if they implement {@linkplain ICleanable}.
-     * Elements that cannot be cleaned are not added to the list
+     * Elements that cannot be cleaned are not added to the list.
+     * Cleaned {@linkplain IFlyweight}s are replaced by their canonical instances.
      *
      * @param list the list to which the elements are added, or null if no list exists yet
      * @param addedElements the elements that are to be added
@@ -91,25 +102,206 @@ public class CollectionUtils
         if (addedElements == null || addedElements.isEmpty())
             return list;
 
-        final List<T> tempList = list == null ? new LinkedList<>() : list;
+        final List<T> tempList = list == null ? new ArrayList<>() : list;
         final boolean isLogging = LOGGER.isDebugEnabled();
 
+        // the list is indexed temporarily to avoid linear look-ups, because its elements may have changed
+        final Set<T> addedIndex = new HashSet<>(tempList);
+
         for (final T element : addedElements) {
+            if (validateAndLogElement(element, isLogging))
+                addUniqueElement(tempList, addedIndex, canonicalize(element), isLogging);
+        }
+
+        return tempList.isEmpty() ? null : tempList;
+    }
+
+
+    /**
+     * Static helper that works like {@linkplain #addToSet(Set, Collection)}, but cleans
+     * and validates the elements concurrently using a specified {@linkplain Executor}.
+     * The elements are added to the set in the order of the added collection,
+     * so the result is identical to that of {@linkplain #addToSet(Set, Collection)}.
+     *
+     * @param set the set to which the elements are added, or null if no set exists yet
+     * @param addedElements the elements that are to be added
+     * @param executor the {@linkplain Executor} that cleans the elements
+     * @param <T> the type of the set and added elements
+     *
+     * @return a set with the added elements, or null if the set is empty after the operation
+     */
+    public static <T> Set<T> addToSet(final Set<T> set, final Collection<T> addedElements, final Executor executor)
+    {
+        // abort if we have nothing to add
+        if (addedElements == null || addedElements.isEmpty())
+            return set;
+
+        final Set<T> tempSet = (set == null) ? new CompactSet<>() : set;
+
+        for (final T element : cleanAll(addedElements, executor))
+            tempSet.add(canonicalize(element));
+
+        return tempSet.isEmpty() ? null : tempSet;
+    }
+
+
+    /**
+     * Static helper that works like {@linkplain #addToList(List, Collection)}, but cleans
+     * and validates the elements concurrently using a specified {@linkplain Executor}.
+     * Duplicates are removed in the order of the added collection,
+     * so the result is identical to that of {@linkplain #addToList(List, Collection)}.
+     *
+     * @param list the list to which the elements are added, or null if no list exists yet
+     * @param addedElements the elements that are to be added
+     * @param executor the {@linkplain Executor} that cleans the elements
+     * @param <T> the type of the list and added elements
+     *
+     * @return a list with the added elements, or null if the list is empty after the operation
+     */
+    public static <T> List<T> addToList(final List<T> list, final Collection<T> addedElements, final Executor executor)
+    {
+        // abort if we have nothing to add
+        if (addedElements == null || addedElements.isEmpty())
+            return list;
+
+        final List<T> validElements = cleanAll(addedElements, executor);
+        final List<T> tempList = list == null ? new ArrayList<>() : list;
+        final boolean isLogging = LOGGER.isDebugEnabled();
+        final Set<T> addedIndex = new HashSet<>(tempList);
+
+        for (final T element : validElements)
+            addUniqueElement(tempList, addedIndex, canonicalize(element), isLogging);
+
+        return tempList.isEmpty() ? null : tempList;
+    }
+
+
+    /**
+     * Cleans and validates a batch of elements concurrently using a specified {@linkplain Executor}.
+     * Null elements and elements that cannot be cleaned are discarded and logged in the order of the batch.
+     * Elements that occur more than once in the batch are only cleaned once, in order to not clean
+     * the same object in multiple threads at the same time.
+     * This method blocks until all elements are cleaned.
+     *
+     * @param elements the elements that are to be cleaned, e.g. {@linkplain ICleanable}s
+     * @param executor the {@linkplain Executor} that cleans the elements, e.g. a {@linkplain java.util.concurrent.ForkJoinPool}
+     * @param <T> the type of the elements
+     *
+     * @return a list of all valid elements in the order of the batch
+     */
+    public static <T> List<T> cleanAll(final Collection<T> elements, final Executor executor)
+    {
+        final boolean isLogging = LOGGER.isDebugEnabled();
+        final List<T> elementList = new ArrayList<>(elements);
+        final int elementCount = elementList.size();
+
+        final boolean[] validity = new boolean[elementCount];
+        final String[] preCleanedStrings = isLogging ? new String[elementCount] : null;
+        final List<CompletableFuture<Void>> cleaningTasks = new ArrayList<>();
+
+        // maps each cleanable instance to the index of its first occurrence
+        final Map<T, Integer> firstIndices = new IdentityHashMap<>();
+        final int[] duplicateOf = new int[elementCount];
+
+        for (int i = 0; i < elementCount; i++) {
+            final T element = elementList.get(i);
+            final int index = i;
+            duplicateOf[i] = -1;
+
+            // only cleaning is worth a concurrent task
+            if (element instanceof ICleanable) {
+                final Integer firstIndex = firstIndices.putIfAbsent(element, index);
+
+                if (firstIndex != null) {
+                    duplicateOf[i] = firstIndex;
+                    continue;
+                }
+
+                cleaningTasks.add(CompletableFuture.runAsync(() -> {
+                    if (isLogging)
+                        preCleanedStrings[index] = element.toString();
+
+                    validity[index] = ((ICleanable) element).clean();
+                }, executor));
+            } else
+                validity[i] = element != null;
+        }
+
+        joinAll(cleaningTasks);
 
-            if (validateAndLogElement(element, isLogging)) {
-                if (tempList.contains(element)) {
-                    if (isLogging) {
-                        LOGGER.debug(String.format(
-                                         CollectionConstants.REMOVED_DUPLICATE_OBJECT,
-                                         element.getClass().getSimpleName(),
-                                         element.toString()));
-                    }
-                } else
-                    tempList.add(element);
+        // repeated instances share the result of their first occurrence
+        for (int i = 0; i < elementCount; i++) {
+            if (duplicateOf[i] != -1) {
+                validity[i] = validity[duplicateOf[i]];
+
+                if (isLogging)
+                    preCleanedStrings[i] = preCleanedStrings[duplicateOf[i]];
             }
         }
 
-        return tempList.isEmpty() ? null : tempList;
+        // collect and log elements in a deterministic order
+        final List<T> validElements = new ArrayList<>(elementCount);
+
+        for (int i = 0; i < elementCount; i++) {
+            final T element = elementList.get(i);
+
+            if (validity[i])
+                validElements.add(element);
+
+            else if (isLogging && element != null) {
+                LOGGER.debug(String.format(
+                                 CollectionConstants.REMOVED_INVALID_OBJECT,
+                                 element.getClass().getSimpleName(),
+                                 preCleanedStrings[i]));
+            }
+        }
+
+        return validElements;
+    }
+
+
+    /**
+     * Enables or disables the replacement of equal {@linkplain IFlyweight}s by canonical instances
+     * via {@linkplain #canonicalize(Object)}. This is disabled by default.
+     *
+     * @param cache a {@linkplain FlyweightCache} that holds canonical instances,
+     *          or null if objects are not to be replaced
+     */
+    public static void setFlyweightCache(final FlyweightCache cache)
+    {
+        flyweightCache = cache;
+    }
+
+
+    /**
+     * Retrieves the {@linkplain FlyweightCache} that is used by {@linkplain #canonicalize(Object)}.
+     *
+     * @return the {@linkplain FlyweightCache} that holds canonical instances,
+     *          or null if objects are not replaced
+     */
+    public static FlyweightCache getFlyweightCache()
+    {
+        return flyweightCache;
+    }
+
+
+    /**
+     * Retrieves a canonical instance of an {@linkplain IFlyweight}, if this was enabled via
+     * {@linkplain #setFlyweightCache(FlyweightCache)}. Other objects are returned unchanged.
+     *
+     * @param value the object of which the canonical instance is retrieved
+     * @param <T> the type of the object
+     *
+     * @return an object that is equal to the specified one
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T canonicalize(final T value)
+    {
+        final FlyweightCache cache = flyweightCache;
+
+        return cache != null && value instanceof IFlyweight
+               ? (T) cache.canonicalize((IFlyweight) value)
+               : value;
     }
 
 
@@ -140,6 +332,56 @@ public class CollectionUtils
     }
 
 
+    /**
+     * Adds an element to a list, unless it is a duplicate, in which case it is logged
+     * if logging is enabled.
+     *
+     * @param list the list to which the element is added
+     * @param addedIndex a set that contains all elements of the list
+     *          and allows for fast look-ups
+     * @param element the element that is to be added
+     * @param isLogging if true, duplicate elements will be logged
+     */
+    private static <T> void addUniqueElement(final List<T> list, final Set<T> addedIndex, final T element, final boolean isLogging)
+    {
+        if (addedIndex.contains(element)) {
+            if (isLogging) {
+                LOGGER.debug(String.format(
+                                 CollectionConstants.REMOVED_DUPLICATE_OBJECT,
+                                 element.getClass().getSimpleName(),
+                                 element.toString()));
+            }
+        } else {
+            list.add(element);
+            addedIndex.add(element);
+        }
+    }
+
+
+    /**
+     * Waits for a list of tasks to complete. If a task failed, its exception is rethrown
+     * without being wrapped in a {@linkplain CompletionException}.
+     *
+     * @param tasks the tasks that are to be completed
+     */
+    private static void joinAll(final List<CompletableFuture<Void>> tasks)
+    {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[tasks.size()])).join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+
+            if (cause instanceof Error)
+                throw (Error) cause;
+
+            throw e;
+        }
+    }
+
+
     /**
      * Attempts to clean and validate a specified element, and logs invalid elements
      * if logging is enabled.
@@ -0,0 +1,708 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * This class extracts the text of HTML markup in a single pass, without building
+ * a document tree. The extracted text is equal to the text of a document that was
+ * parsed by Jsoup, as long as the markup consists of well-nested inline elements
+ * and simple block elements.<br>
+ * Whenever markup is encountered that would be restructured by a full HTML parser,
+ * such as comments, scripts, tables or misnested tags, the extraction is aborted,
+ * so the HTML can be parsed by Jsoup instead.
+ *
+ * @author Robin Weiss
+ */
+final class HtmlTextExtractor
+{
+    private static final Set<String> INLINE_TAGS = createSet(
+                                                       "a", "abbr", "acronym", "b", "bdi", "bdo", "big", "br", "cite",
+                                                       "code", "data", "dfn", "em", "font", "i", "img", "kbd", "mark",
+                                                       "q", "s", "samp", "small", "span", "strong", "sub", "sup", "time",
+                                                       "tt", "u", "var", "wbr");
+
+    private static final Set<String> BLOCK_TAGS = createSet(
+                                                      "address", "article", "aside", "blockquote", "dd", "div", "dl",
+                                                      "dt", "figcaption", "figure", "footer", "h1", "h2", "h3", "h4",
+                                                      "h5", "h6", "header", "hr", "li", "main", "nav", "ol", "p",
+                                                      "section", "ul");
+
+    private static final Set<String> VOID_TAGS = createSet("br", "hr", "img", "wbr");
+
+    private static final Set<String> HEADING_TAGS = createSet("h1", "h2", "h3", "h4", "h5", "h6");
+
+    // block elements that do not prevent list items from being closed implicitly
+    private static final Set<String> LIST_ITEM_SCOPE_EXCEPTIONS = createSet("address", "div", "p");
+
+    private static final String ANCHOR_TAG = "a";
+    private static final String LINE_BREAK_TAG = "br";
+    private static final String PARAGRAPH_TAG = "p";
+    private static final String LIST_ITEM_TAG = "li";
+    private static final String DEFINITION_TAG = "dd";
+    private static final String TERM_TAG = "dt";
+
+    private static final int HEXADECIMAL_RADIX = 16;
+    private static final int DECIMAL_RADIX = 10;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    // HTML5 maps numeric references of C1 control characters to their Windows-1252 counterparts
+    private static final int WINDOWS_1252_START = 0x80;
+    private static final char[] WINDOWS_1252_EXTENSIONS = {
+        '\u20AC', '\u0081', '\u201A', '\u0192', '\u201E', '\u2026', '\u2020', '\u2021',
+        '\u02C6', '\u2030', '\u0160', '\u2039', '\u0152', '\u008D', '\u017D', '\u008F',
+        '\u0090', '\u2018', '\u2019', '\u201C', '\u201D', '\u2022', '\u2013', '\u2014',
+        '\u02DC', '\u2122', '\u0161', '\u203A', '\u0153', '\u009D', '\u017E', '\u0178'
+    };
+
+    private final String html;
+    private final int length;
+    private final StringBuilder text;
+    private final Deque<String> openTags;
+
+    private int pos;
+    private boolean isSelfClosingTag;
+    private boolean isBlockEndPending;
+    private boolean isVerbatim;
+
+
+    /**
+     * Constructor that prepares the extraction of the text of HTML markup.
+     *
+     * @param html the HTML markup of which the text is to be extracted
+     */
+    private HtmlTextExtractor(final String html)
+    {
+        this.html = html;
+        this.length = html.length();
+        this.text = new StringBuilder(length);
+        this.openTags = new ArrayDeque<>();
+        this.isVerbatim = true;
+    }
+
+
+    /**
+     * Extracts the text of HTML markup, normalizing whitespaces like Jsoup.
+     *
+     * @param html the HTML markup of which the text is to be extracted
+     *
+     * @return the trimmed text of the HTML, or null if the markup
+     *          needs to be parsed by a full HTML parser
+     */
+    public static String extractText(final String html)
+    {
+        return new HtmlTextExtractor(html).extract();
+    }
+
+
+    /**
+     * Iterates the HTML markup, appending text and skipping tags.
+     *
+     * @return the trimmed text of the HTML, which is the HTML itself if it was not altered,
+     *          or null if the markup needs to be parsed by a full HTML parser
+     */
+    private String extract()
+    {
+        while (pos < length) {
+            final char c = html.charAt(pos);
+            final boolean isValid;
+
+            if (c == '<')
+                isValid = readMarkup();
+
+            else if (c == '&')
+                isValid = readEscape();
+
+            else {
+                // null characters are dropped or kept depending on their surroundings
+                isValid = c != '\0';
+                appendText(c);
+                pos++;
+            }
+
+            if (!isValid)
+                return null;
+        }
+
+        // avoid copying text that is identical to the HTML
+        return isVerbatim && text.length() == length
+               ? html.trim()
+               : text.toString().trim();
+    }
+
+
+    /**
+     * Reads markup that starts with '&lt;'.
+     *
+     * @return false if the markup cannot be handled in a single pass
+     */
+    private boolean readMarkup()
+    {
+        final int next = pos + 1;
+
+        if (next < length) {
+            final char c = html.charAt(next);
+
+            if (c == '/')
+                return readEndTag();
+
+            if (isLetter(c))
+                return readStartTag();
+
+            // comments, doctypes and processing instructions
+            if (c == '!' || c == '?')
+                return false;
+        }
+
+        // a single '<' is regular text
+        appendText('<');
+        pos++;
+        return true;
+    }
+
+
+    /**
+     * Reads a start tag, verifying that it is supported and does not close
+     * any open elements implicitly.
+     *
+     * @return false if the tag cannot be handled in a single pass
+     */
+    private boolean readStartTag()
+    {
+        final int nameStart = pos + 1;
+        final int nameEnd = findTagNameEnd(nameStart);
+        final int tagEnd = skipAttributes(nameEnd);
+
+        if (tagEnd == -1)
+            return false;
+
+        final String tagName = html.substring(nameStart, nameEnd).toLowerCase(Locale.ENGLISH);
+        final boolean isBlock = BLOCK_TAGS.contains(tagName);
+        final boolean isVoid = VOID_TAGS.contains(tagName);
+
+        if (isBlock ? !canOpenBlock(tagName) : !canOpenInline(tagName))
+            return false;
+
+        // self-closing tags that are not void are closed immediately
+        if (isSelfClosingTag && !isVoid)
+            return false;
+
+        isBlockEndPending = false;
+
+        // separate blocks and line breaks from preceding text
+        if ((isBlock || tagName.equals(LINE_BREAK_TAG)) && text.length() > 0)
+            appendSpace();
+
+        if (isVoid)
+            isBlockEndPending = isBlock;
+        else
+            openTags.push(tagName);
+
+        pos = tagEnd;
+        return true;
+    }
+
+
+    /**
+     * Reads an end tag, verifying that it closes the most recently opened element.
+     *
+     * @return false if the tag cannot be handled in a single pass
+     */
+    private boolean readEndTag()
+    {
+        final int nameStart = pos + 2;
+
+        // "</" at the end is regular text
+        if (nameStart == length) {
+            appendText('<');
+            appendText('/');
+            pos = length;
+            return true;
+        }
+
+        final char c = html.charAt(nameStart);
+
+        // "</>" is ignored
+        if (c == '>') {
+            pos = nameStart + 1;
+            return true;
+        }
+
+        // bogus comments
+        if (!isLetter(c))
+            return false;
+
+        final int nameEnd = findTagNameEnd(nameStart);
+        final int tagEnd = skipAttributes(nameEnd);
+
+        if (tagEnd == -1)
+            return false;
+
+        final String tagName = html.substring(nameStart, nameEnd).toLowerCase(Locale.ENGLISH);
+
+        if (!tagName.equals(openTags.peek()))
+            return false;
+
+        openTags.pop();
+
+        // blocks are separated from directly following text
+        isBlockEndPending = BLOCK_TAGS.contains(tagName);
+
+        pos = tagEnd;
+        return true;
+    }
+
+
+    /**
+     * Checks if an inline element can be opened without changing the structure
+     * of already open elements.
+     *
+     * @param tagName the lower case name of the inline element
+     *
+     * @return true if the inline element is supported and can be opened
+     */
+    private boolean canOpenInline(final String tagName)
+    {
+        if (!INLINE_TAGS.contains(tagName))
+            return false;
+
+        // nested anchors close each other
+        return !tagName.equals(ANCHOR_TAG) || !openTags.contains(ANCHOR_TAG);
+    }
+
+
+    /**
+     * Checks if a block element can be opened without implicitly closing open elements.
+     *
+     * @param tagName the lower case name of the block element
+     *
+     * @return true if the block element can be opened
+     */
+    private boolean canOpenBlock(final String tagName)
+    {
+        // blocks close open paragraphs and headings
+        for (final String openTag : openTags) {
+            if (openTag.equals(PARAGRAPH_TAG) || HEADING_TAGS.contains(openTag))
+                return false;
+        }
+
+        if (tagName.equals(LIST_ITEM_TAG))
+            return !isListItemOpen(LIST_ITEM_TAG, LIST_ITEM_TAG);
+
+        if (tagName.equals(DEFINITION_TAG) || tagName.equals(TERM_TAG))
+            return !isListItemOpen(DEFINITION_TAG, TERM_TAG);
+
+        return true;
+    }
+
+
+    /**
+     * Checks if a list item is open and would be closed implicitly
+     * by another list item.
+     *
+     * @param itemTag the tag name of a list item
+     * @param otherItemTag another tag name of a list item
+     *
+     * @return true if a list item would be closed implicitly
+     */
+    private boolean isListItemOpen(final String itemTag, final String otherItemTag)
+    {
+        for (final String openTag : openTags) {
+            if (openTag.equals(itemTag) || openTag.equals(otherItemTag))
+                return true;
+
+            if (BLOCK_TAGS.contains(openTag) && !LIST_ITEM_SCOPE_EXCEPTIONS.contains(openTag))
+                return false;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Reads a character escape that starts with '&amp;'.
+     *
+     * @return false if the escape cannot be handled in a single pass
+     */
+    private boolean readEscape()
+    {
+        final int start = pos + 1;
+
+        if (start < length) {
+            final char c = html.charAt(start);
+
+            if (c == '#')
+                return readNumericEscape(start + 1);
+
+            if (!isTagWhitespace(c) && c != '<' && c != '&') {
+                readNamedEscape(start);
+                return true;
+            }
+        }
+
+        // a single '&' is regular text
+        appendText('&');
+        pos++;
+        return true;
+    }
+
+
+    /**
+     * Reads a named character escape such as "&amp;amp;". Like Jsoup, legacy escapes
+     * do not require a terminating semicolon.
+     *
+     * @param start the index of the first character of the escape name
+     */
+    private void readNamedEscape(final int start)
+    {
+        int i = start;
+
+        while (i < length && isLetter(html.charAt(i)))
+            i++;
+
+        while (i < length && isDigit(html.charAt(i), DECIMAL_RADIX))
+            i++;
+
+        final boolean hasSemicolon = i < length && html.charAt(i) == ';';
+        final String value = HtmlEscapeTrie.HTML5_ESCAPES.getValue(html, start, i, hasSemicolon);
+
+        // unknown escapes are regular text
+        if (value == null) {
+            appendText('&');
+            pos++;
+            return;
+        }
+
+        for (int j = 0; j < value.length(); j++)
+            appendText(value.charAt(j));
+
+        pos = hasSemicolon ? i + 1 : i;
+    }
+
+
+    /**
+     * Reads a numeric character escape such as "&amp;#65;" or "&amp;#x41;".
+     * Like Jsoup, the terminating semicolon is optional and invalid
+     * code points are replaced by the replacement character.
+     *
+     * @param start the index of the first character after the '#'
+     *
+     * @return false if the escape cannot be handled in a single pass
+     */
+    private boolean readNumericEscape(final int start)
+    {
+        int i = start;
+        final boolean isHex = i < length && (html.charAt(i) == 'x' || html.charAt(i) == 'X');
+
+        if (isHex)
+            i++;
+
+        final int radix = isHex ? HEXADECIMAL_RADIX : DECIMAL_RADIX;
+        final int digitsStart = i;
+        long codePoint = 0;
+
+        while (i < length && isDigit(html.charAt(i), radix)) {
+            if (codePoint <= Character.MAX_CODE_POINT)
+                codePoint = codePoint * radix + Character.digit(html.charAt(i), radix);
+
+            i++;
+        }
+
+        // "&#" without digits is regular text
+        if (i == digitsStart) {
+            appendText('&');
+            pos++;
+            return true;
+        }
+
+        // null characters are dropped or kept depending on their surroundings
+        if (codePoint == 0)
+            return false;
+
+        if (i < length && html.charAt(i) == ';')
+            i++;
+
+        if (codePoint > Character.MAX_CODE_POINT
+            || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+            appendText(REPLACEMENT_CHAR);
+
+        else if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            appendText(Character.highSurrogate((int) codePoint));
+            appendText(Character.lowSurrogate((int) codePoint));
+
+        } else if (codePoint >= WINDOWS_1252_START && codePoint < WINDOWS_1252_START + WINDOWS_1252_EXTENSIONS.length)
+            appendText(WINDOWS_1252_EXTENSIONS[(int) codePoint - WINDOWS_1252_START]);
+
+        else
+            appendText((char) codePoint);
+
+        pos = i;
+        return true;
+    }
+
+
+    /**
+     * Finds the end of a tag name.
+     *
+     * @param start the index of the first character of the tag name
+     *
+     * @return the index after the last character of the tag name
+     */
+    private int findTagNameEnd(final int start)
+    {
+        int i = start;
+
+        while (i < length) {
+            final char c = html.charAt(i);
+
+            if (isTagWhitespace(c) || c == '/' || c == '>')
+                break;
+
+            i++;
+        }
+
+        return i;
+    }
+
+
+    /**
+     * Skips all attributes of a tag, until the closing '&gt;' is found.
+     * Quoted attribute values may contain '&gt;'.
+     *
+     * @param start the index after the tag name
+     *
+     * @return the index after the closing '&gt;' or -1 if the tag is not closed
+     */
+    private int skipAttributes(final int start)
+    {
+        isSelfClosingTag = false;
+        int i = start;
+
+        while (i < length) {
+            final char c = html.charAt(i);
+
+            if (c == '>')
+                return i + 1;
+
+            if (c == '/' && i + 1 < length && html.charAt(i + 1) == '>') {
+                isSelfClosingTag = true;
+                return i + 2;
+            }
+
+            if (isTagWhitespace(c) || c == '/') {
+                i++;
+                continue;
+            }
+
+            // skip attribute name, the first character is always part of it
+            i++;
+
+            while (i < length && !isAttributeNameEnd(html.charAt(i)))
+                i++;
+
+            while (i < length && isTagWhitespace(html.charAt(i)))
+                i++;
+
+            if (i < length && html.charAt(i) == '=')
+                i = skipAttributeValue(i + 1);
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Skips a quoted or unquoted attribute value.
+     *
+     * @param start the index after the '='
+     *
+     * @return the index after the attribute value, or the length of the HTML if the value is not closed
+     */
+    private int skipAttributeValue(final int start)
+    {
+        int i = start;
+
+        while (i < length && isTagWhitespace(html.charAt(i)))
+            i++;
+
+        if (i == length)
+            return length;
+
+        final char c = html.charAt(i);
+
+        if (c == '"' || c == '\'') {
+            final int closingQuote = html.indexOf(c, i + 1);
+            return closingQuote == -1 ? length : closingQuote + 1;
+        }
+
+        while (i < length && !isTagWhitespace(html.charAt(i)) && html.charAt(i) != '>')
+            i++;
+
+        return i;
+    }
+
+
+    /**
+     * Appends a character of a text node, normalizing whitespaces like Jsoup does.
+     *
+     * @param c the character that is to be appended
+     */
+    private void appendText(final char c)
+    {
+        // blocks are separated from directly following text
+        if (isBlockEndPending) {
+            isBlockEndPending = false;
+            appendSpace();
+        }
+
+        if (isTextWhitespace(c))
+            appendSpace();
+
+        else if (!isInvisible(c))
+            appendVerbatim(c);
+    }
+
+
+    /**
+     * Appends a space, unless the text already ends with one.
+     */
+    private void appendSpace()
+    {
+        final int textLength = text.length();
+
+        if (textLength == 0 || text.charAt(textLength - 1) != ' ')
+            appendVerbatim(' ');
+    }
+
+
+    /**
+     * Appends a character to the text, keeping track of whether the text is still
+     * a character-by-character copy of the HTML.
+     *
+     * @param c the character that is to be appended
+     */
+    private void appendVerbatim(final char c)
+    {
+        if (isVerbatim) {
+            final int textLength = text.length();
+            isVerbatim = textLength < length && html.charAt(textLength) == c;
+        }
+
+        text.append(c);
+    }
+
+
+    /**
+     * Checks if a character is considered to be whitespace within text nodes.
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character is converted to a space
+     */
+    private static boolean isTextWhitespace(final char c)
+    {
+        return c == '\u00A0' || isTagWhitespace(c);
+    }
+
+
+    /**
+     * Checks if a character is considered to be whitespace within tags.
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character separates tag names and attributes
+     */
+    private static boolean isTagWhitespace(final char c)
+    {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+    }
+
+
+    /**
+     * Checks if a character is an invisible formatting character
+     * that is removed from the text.
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character is removed from the text
+     */
+    private static boolean isInvisible(final char c)
+    {
+        return c == '\u200B' || c == '\u200C' || c == '\u200D' || c == '\u00AD';
+    }
+
+
+    /**
+     * Checks if a character ends an attribute name.
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character ends an attribute name
+     */
+    private static boolean isAttributeNameEnd(final char c)
+    {
+        return isTagWhitespace(c) || c == '/' || c == '=' || c == '>';
+    }
+
+
+    /**
+     * Checks if a character is a letter that can start a tag name or escape name.
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character is a letter
+     */
+    private static boolean isLetter(final char c)
+    {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || Character.isLetter(c);
+    }
+
+
+    /**
+     * Checks if a character is an ASCII digit of a specified radix.
+     *
+     * @param c the character that is to be checked
+     * @param radix either 10 or 16
+     *
+     * @return true if the character is a digit
+     */
+    private static boolean isDigit(final char c, final int radix)
+    {
+        return c >= '0' && c <= '9'
+               || radix == HEXADECIMAL_RADIX && (c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F');
+    }
+
+
+    /**
+     * Creates an unmodifiable {@linkplain Set} of Strings.
+     *
+     * @param values the values of the set
+     *
+     * @return an unmodifiable {@linkplain Set}
+     */
+    private static Set<String> createSet(final String... values)
+    {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+    }
+}
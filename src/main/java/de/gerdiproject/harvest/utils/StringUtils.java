@@ -15,19 +15,16 @@
  */
 package de.gerdiproject.harvest.utils;
 
-import java.io.StringWriter;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 import org.jsoup.Jsoup;
 
+import de.gerdiproject.harvest.utils.cache.StringInterner;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 /**
  * This class is used for cleaning up Strings, removing unneccessary tags and spaces.
- * The ESCAPES table and unescapeHtml() function are adapted versions of code that was
+ * The unescapeHtml() function is an adapted version of code that was
  * developed by Nick Frolov (http://stackoverflow.com/users/305775/nick-frolov)
  *
  * @author Robin Weiss, Nick Frolov
@@ -37,157 +34,188 @@ import lombok.NoArgsConstructor;
 public class StringUtils
 {
     private static final int MIN_ESCAPE = 2;
-    private static final int MAX_ESCAPE = 6;
+    private static final int MAX_ESCAPE = HtmlEscapeTrie.HTML5_ESCAPES.getMaxNameLength();
     private static final int DECIMAL_RADIX = 10;
     private static final int HEXADECIMAL_RADIX = 16;
     private static final int MAX_SINGLE_CHAR_VALUE = 0xFFFF;
+    private static final int MAX_CACHED_BUILDER_CAPACITY = 0x10000;
+    private static final char NBSP = '\u00A0';
+    private static final String ESCAPED_NBSP_NAME = "nbsp;";
 
     /**
-     * HTML 3 escapes
+     * A {@linkplain StringBuilder} per thread that is reused for cleaning Strings
      */
-    private static final Map<String, String> ESCAPE_LOOKUP_TABLE = createEscapeMap();
+    private static final ThreadLocal<StringBuilder> STRING_BUILDER_CACHE = ThreadLocal.withInitial(StringBuilder::new);
+
+    private static volatile boolean isFullHtmlParsingEnabled;
+    private static volatile StringInterner stringInterner;
 
     /**
-     * Creates a HashMap that maps escape sequences to the sign that is escaped.
+     * Cleans up a String, removing unwanted character escapes and trimming it.
+     * HTML escapes are unescaped, non-breaking spaces are replaced with regular spaces,
+     * sequences of multiple whitespace characters are merged to a single space,
+     * and whitespace characters at the beginning and end are removed.
+     * All of this is done in a single pass over the characters.
      *
-     * @return a HTML 3 escape hash map
+     * @param input the String which is to be cleaned
+     *
+     * @return a cleaned String, or the input String itself if it did not need to be cleaned
      */
-    private static Map<String, String> createEscapeMap() // NOPMD the method is long, but needs to be
+    public static String clean(final String input)
     {
-        final Map<String, String> m = new HashMap<>(); // NOPMD read-only map is thread safe
-        m.put("quot", "\"");        // " - double-quote
-        m.put("amp", "&");          // & - ampersand
-        m.put("lt", "<");           // < - less-than
-        m.put("gt", ">");           // > - greater-than
-        m.put("nbsp", "\u00A0");    // non-breaking space
-        m.put("iexcl", "\u00A1");   // inverted exclamation mark
-        m.put("cent", "\u00A2");    // cent sign
-        m.put("pound", "\u00A3");   // pound sign
-        m.put("curren", "\u00A4");  // currency sign
-        m.put("yen", "\u00A5");     // yen sign = yuan sign
-        m.put("brvbar", "\u00A6");  // broken bar = broken vertical bar
-        m.put("sect", "\u00A7");    // section sign
-        m.put("uml", "\u00A8");     // diaeresis = spacing diaeresis
-        m.put("copy", "\u00A9");    // © - copyright sign
-        m.put("ordf", "\u00AA");    // feminine ordinal indicator
-        m.put("laquo", "\u00AB");   // left-pointing double angle quotation mark = left pointing    // guillemet
-        m.put("not", "\u00AC");     // not sign
-        m.put("shy", "\u00AD");     // soft hyphen = discretionary hyphen
-        m.put("reg", "\u00AE");     // ® - registered trademark sign
-        m.put("macr", "\u00AF");    // macron = spacing macron = overline = APL overbar
-        m.put("deg", "\u00B0");     // degree sign
-        m.put("plusmn", "\u00B1");  // plus-minus sign = plus-or-minus sign
-        m.put("sup2", "\u00B2");    // superscript two = superscript digit two = squared
-        m.put("sup3", "\u00B3");    // superscript three = superscript digit three = cubed
-        m.put("acute", "\u00B4");   // acute accent = spacing acute
-        m.put("micro", "\u00B5");   // micro sign
-        m.put("para", "\u00B6");    // pilcrow sign = paragraph sign
-        m.put("middot", "\u00B7");  // middle dot = Georgian comma = Greek middle dot
-        m.put("cedil", "\u00B8");   // cedilla = spacing cedilla
-        m.put("sup1", "\u00B9");    // superscript one = superscript digit one
-        m.put("ordm", "\u00BA");    // masculine ordinal indicator
-        m.put("raquo", "\u00BB");   // right-pointing double angle quotation mark = right pointing  // guillemet
-        m.put("frac14", "\u00BC");  // vulgar fraction one quarter = fraction one quarter
-        m.put("frac12", "\u00BD");  // vulgar fraction one half = fraction one half
-        m.put("frac34", "\u00BE");  // vulgar fraction three quarters = fraction three quarters
-        m.put("iquest", "\u00BF");  // inverted question mark = turned question mark
-        m.put("Agrave", "\u00C0");  // А - uppercase A, grave accent
-        m.put("Aacute", "\u00C1");  // Б - uppercase A, acute accent
-        m.put("Acirc", "\u00C2");   // В - uppercase A, circumflex accent
-        m.put("Atilde", "\u00C3");  // Г - uppercase A, tilde
-        m.put("Auml", "\u00C4");    // Д - uppercase A, umlaut
-        m.put("Aring", "\u00C5");   // Е - uppercase A, ring
-        m.put("AElig", "\u00C6");   // Ж - uppercase AE
-        m.put("Ccedil", "\u00C7");  // З - uppercase C, cedilla
-        m.put("Egrave", "\u00C8");  // И - uppercase E, grave accent
-        m.put("Eacute", "\u00C9");  // Й - uppercase E, acute accent
-        m.put("Ecirc", "\u00CA");   // К - uppercase E, circumflex accent
-        m.put("Euml", "\u00CB");    // Л - uppercase E, umlaut
-        m.put("Igrave", "\u00CC");  // М - uppercase I, grave accent
-        m.put("Iacute", "\u00CD");  // Н - uppercase I, acute accent
-        m.put("Icirc", "\u00CE");   // О - uppercase I, circumflex accent
-        m.put("Iuml", "\u00CF");    // П - uppercase I, umlaut
-        m.put("ETH", "\u00D0");     // Р - uppercase Eth, Icelandic
-        m.put("Ntilde", "\u00D1");  // С - uppercase N, tilde
-        m.put("Ograve", "\u00D2");  // Т - uppercase O, grave accent
-        m.put("Oacute", "\u00D3");  // У - uppercase O, acute accent
-        m.put("Ocirc", "\u00D4");   // Ф - uppercase O, circumflex accent
-        m.put("Otilde", "\u00D5");  // Х - uppercase O, tilde
-        m.put("Ouml", "\u00D6");    // Ц - uppercase O, umlaut
-        m.put("times", "\u00D7");   // multiplication sign
-        m.put("Oslash", "\u00D8");  // Ш - uppercase O, slash
-        m.put("Ugrave", "\u00D9");  // Щ - uppercase U, grave accent
-        m.put("Uacute", "\u00DA");  // Ъ - uppercase U, acute accent
-        m.put("Ucirc", "\u00DB");   // Ы - uppercase U, circumflex accent
-        m.put("Uuml", "\u00DC");    // Ь - uppercase U, umlaut
-        m.put("Yacute", "\u00DD");  // Э - uppercase Y, acute accent
-        m.put("THORN", "\u00DE");   // Ю - uppercase THORN, Icelandic
-        m.put("szlig", "\u00DF");   // Я - lowercase sharps, German
-        m.put("agrave", "\u00E0");  // а - lowercase a, grave accent
-        m.put("aacute", "\u00E1");  // б - lowercase a, acute accent
-        m.put("acirc", "\u00E2");   // в - lowercase a, circumflex accent
-        m.put("atilde", "\u00E3");  // г - lowercase a, tilde
-        m.put("auml", "\u00E4");    // д - lowercase a, umlaut
-        m.put("aring", "\u00E5");   // е - lowercase a, ring
-        m.put("aelig", "\u00E6");   // ж - lowercase ae
-        m.put("ccedil", "\u00E7");  // з - lowercase c, cedilla
-        m.put("egrave", "\u00E8");  // и - lowercase e, grave accent
-        m.put("eacute", "\u00E9");  // й - lowercase e, acute accent
-        m.put("ecirc", "\u00EA");   // к - lowercase e, circumflex accent
-        m.put("euml", "\u00EB");    // л - lowercase e, umlaut
-        m.put("igrave", "\u00EC");  // м - lowercase i, grave accent
-        m.put("iacute", "\u00ED");  // н - lowercase i, acute accent
-        m.put("icirc", "\u00EE");   // о - lowercase i, circumflex accent
-        m.put("iuml", "\u00EF");    // п - lowercase i, umlaut
-        m.put("eth", "\u00F0");     // р - lowercase eth, Icelandic
-        m.put("ntilde", "\u00F1");  // с - lowercase n, tilde
-        m.put("ograve", "\u00F2");  // т - lowercase o, grave accent
-        m.put("oacute", "\u00F3");  // у - lowercase o, acute accent
-        m.put("ocirc", "\u00F4");   // ф - lowercase o, circumflex accent
-        m.put("otilde", "\u00F5");  // х - lowercase o, tilde
-        m.put("ouml", "\u00F6");    // ц - lowercase o, umlaut
-        m.put("divide", "\u00F7");  // division sign
-        m.put("oslash", "\u00F8");  // ш - lowercase o, slash
-        m.put("ugrave", "\u00F9");  // щ - lowercase u, grave accent
-        m.put("uacute", "\u00FA");  // ъ - lowercase u, acute accent
-        m.put("ucirc", "\u00FB");   // ы - lowercase u, circumflex accent
-        m.put("uuml", "\u00FC");    // ь - lowercase u, umlaut
-        m.put("yacute", "\u00FD");  // э - lowercase y, acute accent
-        m.put("thorn", "\u00FE");   // ю - lowercase thorn, Icelandic
-        m.put("yuml", "\u00FF");    // я - lowercase y, umlaut
-        return Collections.unmodifiableMap(m);
+        // remove HTML tags from text if they exist
+        final String text = input.indexOf('<') == -1
+                            ? input
+                            : stripHtml(input);
+
+        final int length = text.length();
+        final StringBuilder sb = borrowStringBuilder();
+        boolean isChanged = false;
+        boolean isWhitespaceRun = false;
+        int i = 0;
+
+        while (i < length) {
+            final char c = text.charAt(i);
+            final int entityEnd = c == '&' ? findEscapeEnd(text, i) : -1;
+
+            if (entityEnd == -1) {
+                isChanged |= appendCleanChar(sb, c, isWhitespaceRun);
+                isWhitespaceRun = isWhitespace(c);
+                i++;
+                continue;
+            }
+
+            final int decodedStart = sb.length();
+
+            if (!appendUnescaped(text, i + 1, entityEnd, sb)) {
+                // not a valid escape, treat '&' as a regular character
+                sb.append(c);
+                isWhitespaceRun = false;
+                i++;
+                continue;
+            }
+
+            isChanged = true;
+            i = entityEnd + 1;
+
+            // treat double escaped non-breaking spaces like regular ones
+            if (sb.length() == decodedStart + 1
+                && sb.charAt(decodedStart) == '&'
+                && text.startsWith(ESCAPED_NBSP_NAME, i)) {
+                sb.setCharAt(decodedStart, NBSP);
+                i += ESCAPED_NBSP_NAME.length();
+            }
+
+            // merge unescaped whitespace characters in place
+            final int decodedEnd = sb.length();
+            int writeIndex = decodedStart;
+
+            for (int j = decodedStart; j < decodedEnd; j++) {
+                final char decodedChar = sb.charAt(j);
+                final boolean isDecodedWhitespace = isWhitespace(decodedChar);
+
+                if (isDecodedWhitespace && isWhitespaceRun)
+                    sb.setCharAt(writeIndex - 1, ' ');
+                else
+                    sb.setCharAt(writeIndex++, decodedChar == NBSP ? ' ' : decodedChar);
+
+                isWhitespaceRun = isDecodedWhitespace;
+            }
+
+            sb.setLength(writeIndex);
+        }
+
+        // trim the String
+        int trimmedStart = 0;
+        int trimmedEnd = sb.length();
+
+        while (trimmedStart < trimmedEnd && sb.charAt(trimmedStart) <= ' ')
+            trimmedStart++;
+
+        while (trimmedEnd > trimmedStart && sb.charAt(trimmedEnd - 1) <= ' ')
+            trimmedEnd--;
+
+        final String output = !isChanged && trimmedStart == 0 && trimmedEnd == length
+                              ? text
+                              : sb.substring(trimmedStart, trimmedEnd);
+        releaseStringBuilder(sb);
+        return output;
     }
 
 
     /**
-     * Cleans up a String, removing unwanted character escapes and trimming it.
+     * Removes HTML tags from a String and retrieves the text content, which is
+     * equal to the text of a document that was parsed by Jsoup.
+     * Unless full HTML parsing is enabled, the text is extracted in a single pass
+     * and Jsoup is only used if the markup cannot be handled that way.
      *
-     * @param input the String which is to be cleaned
+     * @param html a String that may contain HTML tags
      *
-     * @return a cleaned String
+     * @return the text content of the HTML
      */
-    public static String clean(final String input)
+    public static String stripHtml(final String html)
     {
-        String output;
+        if (!isFullHtmlParsingEnabled) {
+            final String text = HtmlTextExtractor.extractText(html);
 
-        // remove HTML tags from text if they exist
-        if (input.indexOf('<') == -1)
-            output = input;
-        else
-            output = Jsoup.parse(input).text();
+            if (text != null)
+                return text;
+        }
 
-        // unescape characters
-        output = unescapeHtml(output);
+        return Jsoup.parse(html).text();
+    }
 
-        // replace &nbsp with spaces
-        output = output.replaceAll("&nbsp;", " ");
-        output = output.replaceAll("\u00A0", " ");
 
-        // merge whitespaces
-        output = output.replaceAll("[\\u00A0\\s]{2,}", " ");
+    /**
+     * Changes whether HTML is always parsed by Jsoup in order to remove tags.
+     * This can be enabled if the cleaned Strings contain a lot of malformed or
+     * block-heavy markup that the single pass text extraction cannot handle anyway.
+     *
+     * @param isEnabled if true, HTML is always parsed by Jsoup
+     */
+    public static void setFullHtmlParsing(final boolean isEnabled)
+    {
+        isFullHtmlParsingEnabled = isEnabled;
+    }
+
 
-        // remove whitespaces at the beginning and end
-        return output.trim();
+    /**
+     * Enables or disables the replacement of recurring Strings by canonical instances
+     * via {@linkplain #intern(String)}. Interning is disabled by default.
+     *
+     * @param interner a {@linkplain StringInterner} that holds canonical Strings,
+     *          or null if Strings are not to be interned
+     */
+    public static void setStringInterner(final StringInterner interner)
+    {
+        stringInterner = interner;
+    }
+
+
+    /**
+     * Retrieves the {@linkplain StringInterner} that is used by {@linkplain #intern(String)}.
+     *
+     * @return the {@linkplain StringInterner} that holds canonical Strings,
+     *          or null if Strings are not interned
+     */
+    public static StringInterner getStringInterner()
+    {
+        return stringInterner;
+    }
+
+
+    /**
+     * Retrieves a canonical instance of a String, if interning was enabled via
+     * {@linkplain #setStringInterner(StringInterner)}.
+     *
+     * @param value the String of which the canonical instance is retrieved
+     *
+     * @return a String that is equal to the specified one
+     */
+    public static String intern(final String value)
+    {
+        final StringInterner interner = stringInterner;
+        return interner == null ? value : interner.intern(value);
     }
 
 
@@ -196,79 +224,210 @@ public class StringUtils
      *
      * @param input a HTML input text
      *
-     * @return a text with unescaped characters.
+     * @return a text with unescaped characters, or the input String itself if
+     *          it does not contain any escaped characters
      */
     public static final String unescapeHtml(final String input)
     {
-        final StringWriter writer = new StringWriter(input.length());
-        int st = 0;
-        int startIndex = 0;
+        int ampIndex = input.indexOf('&');
 
-        while (true) {
-            // look for '&'
-            startIndex = input.indexOf('&', startIndex) + 1;
+        if (ampIndex == -1)
+            return input;
 
-            if (startIndex == 0)
-                break;
+        final StringBuilder sb = borrowStringBuilder();
+        int copiedEnd = 0;
 
-            final int endIndex = input.indexOf(';', startIndex);
+        while (ampIndex != -1) {
+            final int entityEnd = findEscapeEnd(input, ampIndex);
 
-            // found '&', look for ';'
-            final int len = endIndex - startIndex;
+            if (entityEnd == -1)
+                ampIndex = input.indexOf('&', ampIndex + 1);
+            else {
+                final int previousLength = sb.length();
+                sb.append(input, copiedEnd, ampIndex);
 
-            if (endIndex == -1 || len < MIN_ESCAPE || len > MAX_ESCAPE) {
-                startIndex++;
-                continue;
+                if (appendUnescaped(input, ampIndex + 1, entityEnd, sb)) {
+                    copiedEnd = entityEnd + 1;
+                    ampIndex = input.indexOf('&', copiedEnd);
+                } else {
+                    sb.setLength(previousLength);
+                    ampIndex = input.indexOf('&', ampIndex + 1);
+                }
             }
+        }
 
-            // found escape
-            if (input.charAt(startIndex) == '#') {
-                // numeric escape
-                int numberStartIndex = startIndex + 1;
-                int radix = DECIMAL_RADIX;
+        final String output = copiedEnd == 0
+                              ? input
+                              : sb.append(input, copiedEnd, input.length()).toString();
+        releaseStringBuilder(sb);
+        return output;
+    }
 
-                // check if the number is hexadecimal
-                final char firstChar = input.charAt(numberStartIndex);
 
-                if (firstChar == 'x' || firstChar == 'X') {
-                    numberStartIndex++;
-                    radix = HEXADECIMAL_RADIX;
-                }
+    /**
+     * Appends a character to a cleaned String, merging sequences of whitespace characters
+     * to a single space and replacing non-breaking spaces with regular spaces.
+     *
+     * @param sb the builder of the cleaned String
+     * @param c the character that is to be appended
+     * @param isWhitespaceRun true if the previously appended character was a whitespace character
+     *
+     * @return true if the character was not appended as it is
+     */
+    private static boolean appendCleanChar(final StringBuilder sb, final char c, final boolean isWhitespaceRun)
+    {
+        if (!isWhitespace(c)) {
+            sb.append(c);
+            return false;
 
-                try {
-                    final int entityValue = Integer.parseUnsignedInt(input.substring(numberStartIndex, endIndex), radix);
-                    writer.append(input.substring(st, startIndex - 1));
+        } else if (isWhitespaceRun) {
+            // merge whitespaces
+            sb.setCharAt(sb.length() - 1, ' ');
+            return true;
 
-                    if (entityValue > MAX_SINGLE_CHAR_VALUE) {
-                        final char[] chrs = Character.toChars(entityValue);
-                        writer.write(chrs[0]);
-                        writer.write(chrs[1]);
-                    } else
-                        writer.write(entityValue);
+        } else if (c == NBSP) {
+            sb.append(' ');
+            return true;
 
-                } catch (final NumberFormatException ex) {
-                    startIndex++;
-                    continue;
-                }
-            } else {
-                // named escape
-                final CharSequence value = ESCAPE_LOOKUP_TABLE.get(input.substring(startIndex, endIndex));
+        } else {
+            sb.append(c);
+            return false;
+        }
+    }
 
-                if (value == null) {
-                    startIndex++;
-                    continue;
-                }
 
-                writer.append(input.substring(st, startIndex - 1)).append(value);
-            }
+    /**
+     * Checks if a character is either a non-breaking space or
+     * matches the regex whitespace class "\s".
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character is a whitespace character
+     */
+    private static boolean isWhitespace(final char c)
+    {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+            case NBSP:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+
+    /**
+     * Looks for the semicolon that terminates an escape sequence.
+     *
+     * @param input the text that contains the escape sequence
+     * @param ampIndex the index of the '&amp;' that starts the escape sequence
+     *
+     * @return the index of the terminating semicolon,
+     *          or -1 if the escape sequence has an invalid length
+     */
+    private static int findEscapeEnd(final CharSequence input, final int ampIndex)
+    {
+        final int minEnd = ampIndex + 1 + MIN_ESCAPE;
+        final int maxEnd = Math.min(ampIndex + 1 + MAX_ESCAPE, input.length() - 1);
+
+        for (int i = ampIndex + 1; i <= maxEnd; i++) {
+            if (input.charAt(i) == ';')
+                return i >= minEnd ? i : -1;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Unescapes a single escape sequence and appends the result to a {@linkplain StringBuilder}.
+     *
+     * @param input the text that contains the escape sequence
+     * @param start the index of the first character after the '&amp;'
+     * @param end the index of the terminating semicolon
+     * @param sb the builder to which the unescaped character is appended
+     *
+     * @return true if the escape sequence is valid and was appended
+     */
+    private static boolean appendUnescaped(final CharSequence input, final int start, final int end, final StringBuilder sb)
+    {
+        if (input.charAt(start) != '#') {
+            // named escape
+            final String value = HtmlEscapeTrie.HTML5_ESCAPES.getValue(input, start, end, true);
+
+            if (value == null)
+                return false;
+
+            sb.append(value);
+            return true;
+        }
+
+        // numeric escape
+        int numberStart = start + 1;
+        int radix = DECIMAL_RADIX;
+
+        // check if the number is hexadecimal
+        final char firstChar = input.charAt(numberStart);
+
+        if (firstChar == 'x' || firstChar == 'X') {
+            numberStart++;
+            radix = HEXADECIMAL_RADIX;
+        }
+
+        if (numberStart == end)
+            return false;
+
+        int codePoint = 0;
+
+        for (int i = numberStart; i < end; i++) {
+            final int digit = Character.digit(input.charAt(i), radix);
+
+            if (digit == -1)
+                return false;
+
+            codePoint = codePoint * radix + digit;
 
-            // skip escape sequence
-            st = endIndex + 1;
-            startIndex = st;
+            if (codePoint > Character.MAX_CODE_POINT)
+                return false;
         }
 
-        return st == 0
-               ? input
-               : writer.append(input.substring(st)).toString();
+        if (codePoint > MAX_SINGLE_CHAR_VALUE)
+            sb.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+        else
+            sb.append((char) codePoint);
+
+        return true;
+    }
+
+
+    /**
+     * Retrieves an empty {@linkplain StringBuilder} that is reused by the current thread.
+     *
+     * @return an empty {@linkplain StringBuilder}
+     */
+    private static StringBuilder borrowStringBuilder()
+    {
+        final StringBuilder sb = STRING_BUILDER_CACHE.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+
+    /**
+     * Releases a {@linkplain StringBuilder} that was retrieved via {@linkplain #borrowStringBuilder()}.
+     * Builders that grew too large are discarded in order to free memory.
+     *
+     * @param sb the {@linkplain StringBuilder} that is no longer used
+     */
+    private static void releaseStringBuilder(final StringBuilder sb)
+    {
+        if (sb.capacity() > MAX_CACHED_BUILDER_CAPACITY)
+            STRING_BUILDER_CACHE.remove();
     }
 }
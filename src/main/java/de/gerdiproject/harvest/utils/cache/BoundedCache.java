@@ -0,0 +1,202 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import de.gerdiproject.harvest.constants.CacheConstants;
+import lombok.Getter;
+
+/**
+ * This class is a thread-safe cache that maps keys to the results of a computation.
+ * If the number of entries exceeds the capacity of the cache, an entry is
+ * removed as specified by the {@linkplain EvictionPolicy}.
+ * Null results are cached as well, so unsuccessful computations are not repeated either.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ *
+ * @author Robin Weiss
+ */
+public class BoundedCache<K, V>
+{
+    private static final Object NULL_VALUE = new Object();
+
+    private final Map<K, Object> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * -- GETTER --
+     * Retrieves the maximum number of entries of the cache.
+     * @return the maximum number of entries of the cache
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * -- GETTER --
+     * Retrieves the policy that decides which entry is removed if the capacity is exceeded.
+     * @return the policy that decides which entry is removed if the capacity is exceeded
+     */
+    @Getter
+    private final EvictionPolicy evictionPolicy;
+
+
+    /**
+     * Constructor that creates an empty cache.
+     *
+     * @param capacity the maximum number of entries of the cache
+     * @param evictionPolicy the policy that decides which entry is removed if the capacity is exceeded
+     *
+     * @throws IllegalArgumentException if the capacity is not positive or the eviction policy is null
+     */
+    public BoundedCache(final int capacity, final EvictionPolicy evictionPolicy)
+    {
+        if (capacity <= 0)
+            throw new IllegalArgumentException(CacheConstants.INVALID_CAPACITY_ERROR);
+
+        if (evictionPolicy == null)
+            throw new IllegalArgumentException(CacheConstants.MISSING_EVICTION_POLICY_ERROR);
+
+        this.capacity = capacity;
+        this.evictionPolicy = evictionPolicy;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+
+        final boolean isAccessOrdered = evictionPolicy == EvictionPolicy.LEAST_RECENTLY_USED;
+        final int initialCapacity = (int) Math.min(16L, (long)(capacity / CacheConstants.LOAD_FACTOR) + 1L);
+        final int maxSize = capacity;
+        final LongAdder evictionCounter = this.evictions;
+
+        this.entries = new LinkedHashMap<K, Object>(initialCapacity, CacheConstants.LOAD_FACTOR, isAccessOrdered) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Object> eldest)
+            {
+                final boolean isFull = this.size() > maxSize;
+
+                if (isFull)
+                    evictionCounter.increment();
+
+                return isFull;
+            }
+        };
+    }
+
+
+    /**
+     * Retrieves the cached value of a specified key. If the key is not cached,
+     * the value is computed and added to the cache.
+     * The computation is not synchronized, so concurrent threads
+     * may compute the value of the same key more than once.
+     *
+     * @param key the key of which the value is retrieved
+     * @param computation a function that computes the value of a key that is not cached
+     *
+     * @return the cached or computed value, which may be null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final K key, final Function<? super K, ? extends V> computation)
+    {
+        Object cachedValue;
+
+        synchronized (entries) {
+            cachedValue = entries.get(key);
+        }
+
+        if (cachedValue != null) {
+            hits.increment();
+            return cachedValue == NULL_VALUE ? null : (V) cachedValue;
+        }
+
+        misses.increment();
+        final V computedValue = computation.apply(key);
+
+        synchronized (entries) {
+            entries.put(key, computedValue == null ? NULL_VALUE : computedValue);
+        }
+
+        return computedValue;
+    }
+
+
+    /**
+     * Retrieves the number of entries in the cache.
+     *
+     * @return the number of entries in the cache
+     */
+    public int size()
+    {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+
+    /**
+     * Removes all entries from the cache and resets all counters.
+     */
+    public void clear()
+    {
+        synchronized (entries) {
+            entries.clear();
+            hits.reset();
+            misses.reset();
+            evictions.reset();
+        }
+    }
+
+
+    /**
+     * Retrieves the number of times a value was retrieved from the cache.
+     *
+     * @return the number of times a value was retrieved from the cache
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+
+    /**
+     * Retrieves the number of times a value had to be computed, because it was not cached.
+     *
+     * @return the number of times a value was not cached
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+
+    /**
+     * Retrieves the number of entries that were removed, because the capacity was exceeded.
+     *
+     * @return the number of removed entries
+     */
+    public long getEvictionCount()
+    {
+        return evictions.sum();
+    }
+}
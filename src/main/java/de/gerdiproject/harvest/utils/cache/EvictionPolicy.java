@@ -0,0 +1,36 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.cache;
+
+/**
+ * This enumeration defines which entry is removed from a {@linkplain BoundedCache}
+ * when its capacity is exceeded.
+ *
+ * @author Robin Weiss
+ */
+public enum EvictionPolicy
+{
+    /**
+     * The entry that has not been retrieved for the longest time is removed.
+     */
+    LEAST_RECENTLY_USED,
+
+    /**
+     * The entry that was added first is removed, regardless of how often it was retrieved.
+     */
+    FIRST_IN_FIRST_OUT
+}
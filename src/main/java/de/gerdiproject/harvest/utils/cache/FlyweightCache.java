@@ -0,0 +1,146 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.cache;
+
+import java.util.function.Function;
+
+import de.gerdiproject.harvest.IFlyweight;
+import de.gerdiproject.harvest.constants.CacheConstants;
+
+/**
+ * This class replaces equal {@linkplain IFlyweight} objects by a single canonical instance,
+ * allowing duplicates to be garbage collected.
+ * Collections that contain canonical instances can detect duplicates by identity,
+ * without having to compare all fields.
+ * The number of canonical instances is bounded, and the least recently used ones
+ * are removed if the capacity is exceeded.
+ *
+ * @author Robin Weiss
+ */
+public class FlyweightCache
+{
+    private final BoundedCache<IFlyweight, IFlyweight> cache;
+
+
+    /**
+     * Constructor that creates an empty cache.
+     *
+     * @param capacity the maximum number of canonical instances
+     *
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public FlyweightCache(final int capacity)
+    {
+        this.cache = new BoundedCache<>(capacity, EvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+
+    /**
+     * Retrieves a canonical instance of a specified object.
+     * If no equal object is in the cache, the specified object becomes the canonical instance.
+     * Canonical instances are marked as shared and can no longer be modified.
+     *
+     * @param value the object of which the canonical instance is retrieved
+     * @param <T> the type of the object
+     *
+     * @return an object that is equal to the specified one, or null if the specified object is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IFlyweight> T canonicalize(final T value)
+    {
+        if (value == null)
+            return null;
+
+        final IFlyweight canonicalValue = cache.get(value, Function.identity());
+
+        // Lombok allows subclasses to be equal to their super class
+        if (canonicalValue.getClass() != value.getClass())
+            return value;
+
+        canonicalValue.share();
+        return (T) canonicalValue;
+    }
+
+
+    /**
+     * Throws an exception if a specified object is shared by multiple documents.
+     * This method is to be called by all setters of {@linkplain IFlyweight}s.
+     *
+     * @param value the object that is about to be modified
+     *
+     * @throws UnsupportedOperationException if the object is shared
+     */
+    public static void checkModifiable(final IFlyweight value)
+    {
+        if (value.isShared())
+            throw new UnsupportedOperationException(
+                String.format(CacheConstants.SHARED_FLYWEIGHT_ERROR, value.getClass().getSimpleName()));
+    }
+
+
+    /**
+     * Removes all canonical instances from the cache.
+     */
+    public void clear()
+    {
+        cache.clear();
+    }
+
+
+    /**
+     * Retrieves the number of canonical instances in the cache.
+     *
+     * @return the number of canonical instances in the cache
+     */
+    public int size()
+    {
+        return cache.size();
+    }
+
+
+    /**
+     * Retrieves the maximum number of canonical instances.
+     *
+     * @return the maximum number of canonical instances
+     */
+    public int getCapacity()
+    {
+        return cache.getCapacity();
+    }
+
+
+    /**
+     * Retrieves the number of times an object was replaced by a canonical instance.
+     *
+     * @return the number of times an object was replaced by a canonical instance
+     */
+    public long getHitCount()
+    {
+        return cache.getHitCount();
+    }
+
+
+    /**
+     * Retrieves the number of times an object became a canonical instance.
+     *
+     * @return the number of times an object became a canonical instance
+     */
+    public long getMissCount()
+    {
+        return cache.getMissCount();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.gerdiproject.harvest.constants.CacheConstants;
+import lombok.Getter;
+
+/**
+ * This class replaces equal {@linkplain String}s by a single canonical instance,
+ * allowing duplicates to be garbage collected.
+ * Unlike {@linkplain String#intern()}, the table of canonical instances has a fixed
+ * number of slots. If two strings compete for the same slot, the newer one replaces
+ * the older one. The table holds weak references only, so canonical instances that are
+ * no longer used anywhere else are garbage collected as well.
+ * All methods are thread-safe and do not block.
+ *
+ * @author Robin Weiss
+ */
+public class StringInterner
+{
+    private final AtomicReferenceArray<WeakReference<String>> table;
+    private final int indexMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * -- GETTER --
+     * Retrieves the number of slots for canonical strings.
+     * @return the number of slots for canonical strings
+     */
+    @Getter
+    private final int capacity;
+
+
+    /**
+     * Constructor that creates an empty table.
+     *
+     * @param capacity the minimum number of slots for canonical strings,
+     *          which is rounded up to the next power of two
+     *
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public StringInterner(final int capacity)
+    {
+        if (capacity <= 0 || capacity > CacheConstants.MAX_INTERNER_CAPACITY)
+            throw new IllegalArgumentException(CacheConstants.INVALID_CAPACITY_ERROR);
+
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.indexMask = this.capacity - 1;
+        this.table = new AtomicReferenceArray<>(this.capacity);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+
+    /**
+     * Retrieves a canonical instance of a specified string.
+     * If no equal string is in the table, the specified string becomes the canonical instance.
+     *
+     * @param value the string of which the canonical instance is retrieved
+     *
+     * @return a string that is equal to the specified one, or null if the specified string is null
+     */
+    public String intern(final String value)
+    {
+        if (value == null)
+            return null;
+
+        // spread the bits of the hash code, because only the lower bits are used
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & indexMask;
+
+        final WeakReference<String> canonicalReference = table.get(index);
+        final String canonicalValue = canonicalReference == null ? null : canonicalReference.get();
+
+        if (value.equals(canonicalValue)) {
+            hits.increment();
+            return canonicalValue;
+        }
+
+        misses.increment();
+        table.set(index, new WeakReference<>(value));
+        return value;
+    }
+
+
+    /**
+     * Removes all canonical strings from the table and resets all counters.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < capacity; i++)
+            table.set(i, null);
+
+        hits.reset();
+        misses.reset();
+    }
+
+
+    /**
+     * Retrieves the number of times a canonical instance was found.
+     *
+     * @return the number of times a canonical instance was found
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+
+    /**
+     * Retrieves the number of times a string had no canonical instance yet.
+     *
+     * @return the number of times a string had no canonical instance
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+}
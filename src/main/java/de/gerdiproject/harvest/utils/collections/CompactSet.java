@@ -0,0 +1,247 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import de.gerdiproject.harvest.constants.CollectionConstants;
+
+/**
+ * This {@linkplain Set} stores few elements in a small array, which requires
+ * far less memory than a {@linkplain HashSet}. Elements are looked up linearly,
+ * which is as fast as hashing for small sizes.
+ * If the number of elements exceeds {@linkplain CollectionConstants#COMPACT_SET_THRESHOLD},
+ * the set is promoted to a {@linkplain HashSet}.
+ *
+ * @param <E> the type of the set elements
+ *
+ * @author Robin Weiss
+ */
+public class CompactSet<E> extends AbstractSet<E>
+{
+    private static final int INITIAL_CAPACITY = 2;
+
+    private Object[] elements;
+    private int size;
+    private Set<E> hashSet;
+    private int modCount;
+
+
+    /**
+     * Constructor that creates an empty set.
+     */
+    public CompactSet()
+    {
+        super();
+        this.elements = new Object[INITIAL_CAPACITY];
+    }
+
+
+    /**
+     * Constructor that creates a set containing the elements of a specified {@linkplain Collection}.
+     *
+     * @param initialElements the elements that are to be added to the set
+     */
+    public CompactSet(final Collection<? extends E> initialElements)
+    {
+        this();
+        addAll(initialElements);
+    }
+
+
+    @Override
+    public int size()
+    {
+        return hashSet == null ? size : hashSet.size();
+    }
+
+
+    @Override
+    public boolean contains(final Object o)
+    {
+        return hashSet == null ? indexOf(o) != -1 : hashSet.contains(o);
+    }
+
+
+    @Override
+    public boolean add(final E element)
+    {
+        if (hashSet != null)
+            return hashSet.add(element);
+
+        if (indexOf(element) != -1)
+            return false;
+
+        if (size == CollectionConstants.COMPACT_SET_THRESHOLD)
+            return promote().add(element);
+
+        if (size == elements.length)
+            elements = Arrays.copyOf(elements, Math.min(size * 2, CollectionConstants.COMPACT_SET_THRESHOLD));
+
+        elements[size++] = element;
+        modCount++;
+        return true;
+    }
+
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (hashSet != null)
+            return hashSet.remove(o);
+
+        final int index = indexOf(o);
+
+        if (index == -1)
+            return false;
+
+        removeAt(index);
+        return true;
+    }
+
+
+    @Override
+    public void clear()
+    {
+        // keep the allocated storage, so that the set can be refilled without allocations
+        if (hashSet == null)
+            Arrays.fill(elements, 0, size, null);
+        else
+            hashSet.clear();
+
+        size = 0;
+        modCount++;
+    }
+
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return hashSet == null ? new CompactIterator() : hashSet.iterator();
+    }
+
+
+    /**
+     * Moves all elements to a {@linkplain HashSet} that is used from then on.
+     *
+     * @return the {@linkplain HashSet} that contains all elements
+     */
+    @SuppressWarnings("unchecked")
+    private Set<E> promote()
+    {
+        hashSet = new HashSet<>(); // NOPMD only one thread modifies JSON objects
+
+        for (int i = 0; i < size; i++)
+            hashSet.add((E) elements[i]);
+
+        elements = null;
+        size = 0;
+        modCount++;
+
+        return hashSet;
+    }
+
+
+    /**
+     * Retrieves the array index of an element.
+     *
+     * @param o the element of which the index is retrieved
+     *
+     * @return the index of the element, or -1 if the element is not in the array
+     */
+    private int indexOf(final Object o)
+    {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, elements[i]))
+                return i;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Removes the element at a specified array index.
+     *
+     * @param index the index of the removed element
+     */
+    private void removeAt(final int index)
+    {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+    }
+
+
+    /**
+     * This {@linkplain Iterator} iterates the array of the {@linkplain CompactSet}.
+     *
+     * @author Robin Weiss
+     */
+    private class CompactIterator implements Iterator<E>
+    {
+        private int cursor;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return cursor < size;
+        }
+
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next()
+        {
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            lastIndex = cursor++;
+            return (E) elements[lastIndex];
+        }
+
+
+        @Override
+        public void remove()
+        {
+            if (lastIndex == -1)
+                throw new IllegalStateException();
+
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+
+            removeAt(lastIndex);
+            cursor = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -17,7 +17,9 @@
 package de.gerdiproject.json;
 
 import java.time.Instant;
+import java.util.Arrays;
 
+import de.gerdiproject.harvest.utils.cache.BoundedCache;
 import de.gerdiproject.json.datacite.DateRange;
 import de.gerdiproject.json.datacite.constants.DataCiteDateConstants;
 import lombok.AccessLevel;
@@ -31,6 +33,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DateRangeUtils
 {
+    private static final int INITIAL_SEPARATOR_CAPACITY = 4;
+    private static final String[] RANGE_SEPARATORS =
+        DataCiteDateConstants.DATE_RANGE_SEPARATORS.toArray(new String[0]);
+
+    private static volatile BoundedCache<String, Instant[]> dateRangeCache;
+
+
     /**
      * Parses a date range using a set of common separators defined in {@linkplain DataCiteDateConstants}.
      *
@@ -41,94 +50,223 @@ public class DateRangeUtils
      */
     public static Instant[] parseDateRange(final String dateString)
     {
-        Instant[] dates = null;
+        final BoundedCache<String, Instant[]> cache = dateRangeCache;
+
+        if (cache == null)
+            return parseUncachedDateRange(dateString);
+
+        // copy the cached array, because it may be altered by the caller
+        final Instant[] cachedDates = cache.get(dateString, DateRangeUtils::parseUncachedDateRange);
+        return cachedDates == null ? null : cachedDates.clone();
+    }
+
+
+    /**
+     * Enables or disables the caching of parsed date ranges. If enabled, {@linkplain #parseDateRange(String)}
+     * maps date strings to parsed {@linkplain Instant} arrays, including failed attempts.
+     * Caching is disabled by default.
+     *
+     * @param cache a cache of parsed date ranges, or null if date ranges are not to be cached
+     */
+    public static void setDateRangeCache(final BoundedCache<String, Instant[]> cache)
+    {
+        dateRangeCache = cache;
+    }
+
+
+    /**
+     * Retrieves the cache that maps date strings to parsed {@linkplain Instant} arrays.
+     *
+     * @return the cache of parsed date ranges, or null if date ranges are not cached
+     */
+    public static BoundedCache<String, Instant[]> getDateRangeCache()
+    {
+        return dateRangeCache;
+    }
+
+
+    /**
+     * Parses a date range without looking it up in the date range cache.
+     *
+     * @param dateString a raw {@linkplain String} that contains a date range
+     *
+     * @return an {@linkplain Instant} array that contains the start- and end date,
+     * or null if no date range could be parsed
+     */
+    private static Instant[] parseUncachedDateRange(final String dateString)
+    {
+        final String[] separators = RANGE_SEPARATORS;
+        final int separatorCount = separators.length;
+        final int[][] separatorIndices = new int[separatorCount][];
+        final int[] occurrences = new int[separatorCount];
+
+        findSeparators(dateString, separators, separatorIndices, occurrences);
 
         // check if string represents a range, using any of the common separators
-        for (final String separator : DataCiteDateConstants.DATE_RANGE_SEPARATORS) {
-            dates = parseDateRange(dateString, separator);
+        for (int i = 0; i < separatorCount; i++) {
+            if (occurrences[i] == 0)
+                continue;
+
+            final Instant[] dates = parseDateRange(dateString, separators[i], separatorIndices[i], occurrences[i]);
 
             if (dates != null)
-                break;
+                return dates;
         }
 
-        return dates;
+        return null;
     }
 
 
     /**
-     * Parses a date range considering a specified separator.
+     * Finds all non-overlapping occurrences of a list of separators
+     * in a single scan over a date string.
+     *
+     * @param dateString the date string that is to be scanned
+     * @param separators the separators that are to be found
+     * @param separatorIndices an array to which the start indices of each separator are written
+     * @param occurrences an array to which the number of occurrences of each separator are written
+     */
+    private static void findSeparators(final String dateString, final String[] separators, final int[][] separatorIndices, final int[] occurrences)
+    {
+        final int length = dateString.length();
+        final int separatorCount = separators.length;
+
+        for (int i = 0; i < length; i++) {
+            final char c = dateString.charAt(i);
+
+            for (int j = 0; j < separatorCount; j++) {
+                final String separator = separators[j];
+
+                if (c != separator.charAt(0) || !dateString.startsWith(separator, i))
+                    continue;
+
+                int[] indices = separatorIndices[j];
+
+                // skip separators that overlap with the previous occurrence
+                if (indices != null && i < indices[occurrences[j] - 1] + separator.length())
+                    continue;
+
+                if (indices == null) {
+                    indices = new int[INITIAL_SEPARATOR_CAPACITY];
+                    separatorIndices[j] = indices;
+                } else if (occurrences[j] == indices.length) {
+                    indices = Arrays.copyOf(indices, indices.length * 2);
+                    separatorIndices[j] = indices;
+                }
+
+                indices[occurrences[j]++] = i;
+            }
+        }
+    }
+
+
+    /**
+     * Parses a date range by splitting a date string at the occurrences of a separator.
      *
      * @param dateString a raw {@linkplain String} that contains a date range
      * @param separator a sub-string that separates the beginning from the end date
+     * @param indices the start indices of all non-overlapping occurrences of the separator
+     * @param occurrences the number of occurrences of the separator
      *
      * @return an {@linkplain Instant} array that contains the start- and end date,
      * or null if no date range could be parsed
      */
-    public static Instant[] parseDateRange(final String dateString, final String separator)
+    private static Instant[] parseDateRange(final String dateString, final String separator, final int[] indices, final int occurrences)
     {
-        final Instant[] dates = new Instant[2];
-        boolean isDateRange = false;
+        final int length = dateString.length();
+        final int separatorLength = separator.length();
+        String dateStringFrom = null;
+        String dateStringUntil = null;
 
-        // check if the string contains the separator
-        if (dateString.contains(separator)) {
-            String dateStringFrom = null;
-            String dateStringUntil = null;
+        // edge case: date range with open start-date
+        if (indices[0] == 0)
+            dateStringUntil = dateString.substring(separatorLength);
 
-            // edge case: date range with open start-date
-            if (dateString.startsWith(separator))
-                dateStringUntil = dateString.substring(separator.length());
+        // edge case: date range with open end-date
+        else if (dateString.endsWith(separator))
+            dateStringFrom = dateString.substring(0, length - separatorLength);
 
-            // edge case: date range with open end-date
-            else if (dateString.endsWith(separator))
-                dateStringFrom = dateString.substring(0, dateString.length() - separator.length());
+        // regular case: there is just one separator between two dates
+        else if (occurrences == 1) {
+            dateStringFrom = dateString.substring(0, indices[0]);
+            dateStringUntil = dateString.substring(indices[0] + separatorLength);
+        }
 
-            // regular case: the separator is somewhere between two dates
-            else {
-                final String[] dateRangeElements = dateString.split(separator);
+        // edge case: the range-separator is the same symbol as the day/month/year-separator
+        else if (occurrences % 2 == 1) {
+            // split at the middle separator
+            final int halfLength = indices[occurrences / 2] + separatorLength;
+            dateStringFrom = dateString.substring(0, halfLength - 1);
+            dateStringUntil = dateString.substring(halfLength);
+        }
 
-                // check if there is just one separator
-                if (dateRangeElements.length == 2) {
+        else
+            return null;
 
-                    dateStringFrom = dateRangeElements[0];
-                    dateStringUntil = dateRangeElements[1];
-                }
+        return parseRangeDates(dateStringFrom, dateStringUntil);
+    }
 
-                // edge case: the range-separator is the same symbol as the day/month/year-separator
-                else if (dateRangeElements.length > 2 && dateRangeElements.length % 2 == 0) {
-                    // determine the middle of the string for a proper separation
-                    final int separatorLength = separator.length();
-                    int halfLength = 0;
-                    final int len = dateRangeElements.length / 2;
 
-                    for (int i = 0; i < len; i++)
-                        halfLength += dateRangeElements[i].length() + separatorLength;
+    /**
+     * Parses the start- and end date of a date range. Each date is parsed at most once,
+     * and not at all if the range cannot be valid.
+     *
+     * @param dateStringFrom the start date, or null if the range has no start
+     * @param dateStringUntil the end date, or null if the range has no end
+     *
+     * @return an {@linkplain Instant} array that contains the start- and end date,
+     * or null if no date range could be parsed
+     */
+    private static Instant[] parseRangeDates(final String dateStringFrom, final String dateStringUntil)
+    {
+        // edge case: not a date range, because the two date strings are too radically different
+        if (dateStringFrom != null
+            && dateStringUntil != null
+            && Math.abs(dateStringFrom.length() - dateStringUntil.length()) > 2)
+            return null;
 
-                    dateStringFrom = dateString.substring(0, halfLength - 1);
-                    dateStringUntil = dateString.substring(halfLength);
-                }
-            }
+        final Instant[] dates = new Instant[2];
 
-            // continue only if at least one possible date was found
-            if (dateStringFrom != null  || dateStringUntil != null) {
+        if (dateStringFrom != null) {
+            dates[0] = DateUtils.parseDate(dateStringFrom);
 
-                // edge case: not a date range, because the two date strings are too radically different
-                isDateRange = dateStringFrom == null
-                              || dateStringUntil == null
-                              || Math.abs(dateStringFrom.length() - dateStringUntil.length()) <= 2;
+            if (dates[0] == null)
+                return null;
+        }
 
-                if (dateStringFrom != null) {
-                    dates[0] = DateUtils.parseDate(dateStringFrom);
-                    isDateRange &= dates[0] != null;
-                }
+        if (dateStringUntil != null) {
+            dates[1] = DateUtils.parseDate(dateStringUntil);
 
-                if (dateStringUntil != null) {
-                    dates[1] = DateUtils.parseDate(dateStringUntil);
-                    isDateRange &= dates[1] != null;
-                }
-            }
+            if (dates[1] == null)
+                return null;
         }
 
-        // return null if array is empty
-        return isDateRange ? dates : null;
+        return dates;
+    }
+
+
+    /**
+     * Parses a date range considering a specified separator.
+     *
+     * @param dateString a raw {@linkplain String} that contains a date range
+     * @param separator a sub-string that separates the beginning from the end date
+     *
+     * @return an {@linkplain Instant} array that contains the start- and end date,
+     * or null if no date range could be parsed
+     */
+    public static Instant[] parseDateRange(final String dateString, final String separator)
+    {
+        // edge case: an empty separator is found at the start of any string
+        if (separator.isEmpty())
+            return parseRangeDates(null, dateString);
+
+        final int[][] separatorIndices = new int[1][];
+        final int[] occurrences = new int[1];
+
+        findSeparators(dateString, new String[] { separator }, separatorIndices, occurrences);
+
+        return occurrences[0] == 0
+               ? null
+               : parseDateRange(dateString, separator, separatorIndices[0], occurrences[0]);
     }
 }
@@ -18,13 +18,15 @@ package de.gerdiproject.json;
 
 import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
-import java.util.regex.Matcher;
+import java.time.format.TextStyle;
+import java.util.Locale;
 
 import de.gerdiproject.harvest.utils.StringUtils;
+import de.gerdiproject.harvest.utils.cache.BoundedCache;
 import de.gerdiproject.json.datacite.Date;
 import de.gerdiproject.json.datacite.DateRange;
 import de.gerdiproject.json.datacite.abstr.AbstractDate;
@@ -41,6 +43,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DateUtils
 {
+    private static final String[] MONTH_NAMES = createMonthNames();
+    private static final int[] MONTH_VALUES = createMonthValues();
+
+    private static final int ISO_MINUTE_END = 16;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long DAYS_FROM_YEAR_ZERO_TO_EPOCH = 719468L;
+
+    private static volatile BoundedCache<String, Instant> dateCache;
+
     /**
      * Creates an instant using the amount of milliseconds that passed
      * from 01/01/1970 00:00:00 until this date.
@@ -84,6 +97,47 @@ public class DateUtils
         if (cleanString.isEmpty())
             return null;
 
+        final BoundedCache<String, Instant> cache = dateCache;
+
+        return cache == null
+               ? parseCleanDateString(cleanString)
+               : cache.get(cleanString, DateUtils::parseCleanDateString);
+    }
+
+
+    /**
+     * Enables or disables the caching of parsed dates. If enabled, {@linkplain #parseDate(String)}
+     * maps cleaned date strings to parsed {@linkplain Instant}s, including failed attempts.
+     * Caching is disabled by default.
+     *
+     * @param cache a cache of parsed {@linkplain Instant}s, or null if dates are not to be cached
+     */
+    public static void setDateCache(final BoundedCache<String, Instant> cache)
+    {
+        dateCache = cache;
+    }
+
+
+    /**
+     * Retrieves the cache that maps cleaned date strings to parsed {@linkplain Instant}s.
+     *
+     * @return the cache of parsed {@linkplain Instant}s, or null if dates are not cached
+     */
+    public static BoundedCache<String, Instant> getDateCache()
+    {
+        return dateCache;
+    }
+
+
+    /**
+     * Parses a date string that was cleaned via {@linkplain StringUtils#clean(String)}.
+     *
+     * @param cleanString a non-empty, cleaned date string
+     *
+     * @return a parsed {@linkplain Instant} or null, if the string could not be parsed
+     */
+    private static Instant parseCleanDateString(final String cleanString)
+    {
         Instant parsedDate = null;
 
         // check if the date is possibly of ISO-8601 standard
@@ -101,6 +155,10 @@ public class DateUtils
     /**
      * Parses an {@linkplain AbstractDate} from a specified date string.
      *
+     * If date caches are enabled via {@linkplain #setDateCache(BoundedCache)} and
+     * {@linkplain DateRangeUtils#setDateRangeCache(BoundedCache)}, recurring date strings
+     * are not parsed again.
+     *
      * @param dateString a raw string that contains a {@linkplain Date} or {@linkplain DateRange}
      * @param type the {@linkplain DateType} of the retrieved date
      *
@@ -109,17 +167,14 @@ public class DateUtils
     public static AbstractDate parseAbstractDate(final String dateString, final DateType type)
     {
         // attempt to parse date range
-        AbstractDate date = new DateRange(dateString, type);
-        boolean isValidDate = date.clean();
+        final Instant[] rangeDates = DateRangeUtils.parseDateRange(dateString);
 
-        // fallback: attempt to parse single date
-        if (!isValidDate) {
-            date =  new Date(dateString, type);
-            isValidDate = date.clean();
-        }
+        if (rangeDates != null)
+            return new DateRange(rangeDates[0], rangeDates[1], type);
 
-        // return valid date or null
-        return isValidDate ? date : null;
+        // fallback: attempt to parse single date
+        final Instant date = parseDate(dateString);
+        return date == null ? null : new Date(date, type);
     }
 
 
@@ -181,7 +236,11 @@ public class DateUtils
      */
     private static Instant parseIso8601String(final String dateString)
     {
-        Instant parsedValue;
+        // try to parse the most common formats without DateTimeFormatters
+        Instant parsedValue = parseCommonIso8601String(dateString);
+
+        if (parsedValue != null)
+            return parsedValue;
 
         // try the standard ISO-8601 formatter
         try {
@@ -202,7 +261,165 @@ public class DateUtils
     }
 
     /**
-     * Parses a non-ISO8601 date string.
+     * Parses ISO-8601 date strings of the format yyyy-MM-ddTHH:mm[:ss[.fff]][Z|&plusmn;hh:mm]
+     * directly from their characters. Strings that do not match this format, or that
+     * contain values which would be resolved by the {@linkplain DateTimeFormatter}s
+     * in special ways, are not parsed.
+     *
+     * @param dateString the date string that is to be parsed
+     *
+     * @return a parsed {@linkplain Instant}, or null if the string must be parsed
+     *          by a {@linkplain DateTimeFormatter}
+     */
+    private static Instant parseCommonIso8601String(final String dateString) // NOPMD the format has many optional parts
+    {
+        final int length = dateString.length();
+
+        if (length < ISO_MINUTE_END
+            || dateString.charAt(4) != '-'
+            || dateString.charAt(7) != '-'
+            || dateString.charAt(10) != 'T'
+            || dateString.charAt(13) != ':')
+            return null;
+
+        final int year = parseDigits(dateString, 0, 4);
+        final int month = parseDigits(dateString, 5, 7);
+        final int day = parseDigits(dateString, 8, 10);
+        final int hour = parseDigits(dateString, 11, 13);
+        final int minute = parseDigits(dateString, 14, ISO_MINUTE_END);
+
+        // zero years are resolved differently by the formatters
+        if (year < 1 || month < 1 || month > 12 || day < 1 || hour > 23 || minute > 59
+            || day > Month.of(month).length(Year.isLeap(year)))
+            return null;
+
+        int pos = ISO_MINUTE_END;
+        int second = 0;
+        int nanos = 0;
+        int fractionDigits = 0;
+
+        // optional seconds and fraction of seconds
+        if (pos < length && dateString.charAt(pos) == ':') {
+            second = parseDigits(dateString, pos + 1, pos + 3);
+
+            if (second < 0 || second > 59)
+                return null;
+
+            pos += 3;
+
+            if (pos < length && dateString.charAt(pos) == '.') {
+                pos++;
+
+                while (pos < length && isAsciiDigit(dateString.charAt(pos)) && fractionDigits < MAX_FRACTION_DIGITS) {
+                    nanos = nanos * 10 + dateString.charAt(pos) - '0';
+                    fractionDigits++;
+                    pos++;
+                }
+
+                if (fractionDigits == 0)
+                    return null;
+
+                for (int i = fractionDigits; i < MAX_FRACTION_DIGITS; i++)
+                    nanos *= 10;
+            }
+        }
+
+        // optional time zone offset
+        int offsetSeconds = 0;
+        final boolean hasOffset = pos < length;
+
+        if (hasOffset) {
+            final char offsetSign = dateString.charAt(pos);
+
+            if (offsetSign == 'Z') {
+                if (pos + 1 != length)
+                    return null;
+            }
+
+            // offsets without colons are left to the fallback formatter
+            else if ((offsetSign == '+' || offsetSign == '-')
+                     && pos + 6 == length
+                     && dateString.charAt(pos + 3) == ':') {
+                final int offsetHours = parseDigits(dateString, pos + 1, pos + 3);
+                final int offsetMinutes = parseDigits(dateString, pos + 4, pos + 6);
+                offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+
+                if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59 || offsetSeconds > MAX_OFFSET_SECONDS)
+                    return null;
+
+                if (offsetSign == '-')
+                    offsetSeconds = -offsetSeconds;
+            } else
+                return null;
+        }
+
+        // without an offset, the fallback formatter only allows exactly three fraction digits
+        if (!hasOffset && fractionDigits != 0 && fractionDigits != 3)
+            return null;
+
+        final long epochSecond = daysSinceEpoch(year, month, day) * SECONDS_PER_DAY
+                                 + hour * 3600L + minute * 60L + second - offsetSeconds;
+
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+
+    /**
+     * Parses a non-negative number that consists of the digits 0 to 9.
+     *
+     * @param dateString the string that contains the number
+     * @param start the index of the first digit
+     * @param end the index after the last digit
+     *
+     * @return the parsed number, or -1 if the string contains other characters or is too short
+     */
+    private static int parseDigits(final String dateString, final int start, final int end)
+    {
+        if (end > dateString.length())
+            return -1;
+
+        int parsedNumber = 0;
+
+        for (int i = start; i < end; i++) {
+            final char c = dateString.charAt(i);
+
+            if (!isAsciiDigit(c))
+                return -1;
+
+            parsedNumber = parsedNumber * 10 + c - '0';
+        }
+
+        return parsedNumber;
+    }
+
+
+    /**
+     * Calculates the number of days between 1970-01-01 and a specified date
+     * of the proleptic Gregorian calendar.
+     *
+     * @param year the year of the date
+     * @param month the month of the year
+     * @param day the day of the month
+     *
+     * @return the number of days since 1970-01-01
+     */
+    private static long daysSinceEpoch(final int year, final int month, final int day)
+    {
+        // count years from March, so that leap days are at the end of a year
+        final int marchYear = month <= 2 ? year - 1 : year;
+        final int era = (marchYear >= 0 ? marchYear : marchYear - 399) / 400;
+        final int yearOfEra = marchYear - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097L + dayOfEra - DAYS_FROM_YEAR_ZERO_TO_EPOCH;
+    }
+
+
+    /**
+     * Parses a non-ISO8601 date string. The string is divided into segments
+     * by {@linkplain DataCiteDateConstants#DATE_SEPARATOR_CHARS}, which are
+     * classified as numbers or month names in a single pass.
      *
      * @param dateString the date string that is to be parsed
      *
@@ -210,7 +427,7 @@ public class DateUtils
      */
     private static Instant parseNonStandardDateString(final String dateString) // NOPMD this is as simple as it gets
     {
-        final String[] dateSegments = dateString.split(DataCiteDateConstants.DATE_SPLIT_REGEX);
+        final int stringLength = dateString.length();
 
         int day = 1;
         int month = 1;
@@ -219,15 +436,19 @@ public class DateUtils
         boolean hasMonth = false;
         boolean hasYear = false;
 
-        // convert each segment of the split string to a day, month, or year
-        for (final String s : dateSegments) {
-            // skip empty strings
-            if (s.isEmpty())
+        // convert each segment of the string to a day, month, or year
+        int segmentEnd;
+
+        for (int segmentStart = 0; segmentStart < stringLength; segmentStart = segmentEnd + 1) {
+            segmentEnd = findSegmentEnd(dateString, segmentStart);
+
+            // skip empty segments
+            if (segmentEnd == segmentStart)
                 continue;
 
             // check if the segment is a number
-            if (Character.isDigit(s.charAt(0))) {
-                final int num = parseNumberSegment(s);
+            if (Character.isDigit(dateString.charAt(segmentStart))) {
+                final int num = parseNumberSegment(dateString, segmentStart, segmentEnd);
 
                 // zero values are eligible only as year, which defaults to 0 anyway
                 if (num == 0 || num > 9999)
@@ -259,11 +480,11 @@ public class DateUtils
 
             } else {
                 // if the segment is alphabetical text, check if it describes a month
-                try {
-                    month = DataCiteDateConstants.MONTH_FORMATTER.parse(s).get(ChronoField.MONTH_OF_YEAR);
+                final int parsedMonth = parseMonthSegment(dateString, segmentStart, segmentEnd);
+
+                if (parsedMonth != 0) {
+                    month = parsedMonth;
                     hasMonth = true;
-                } catch (final DateTimeParseException e) { // NOPMD
-                    // thrown if the string was no month after all, continue parsing
                 }
             }
         }
@@ -297,34 +518,165 @@ public class DateUtils
     }
 
 
+    /**
+     * Finds the end of a segment of a date string.
+     *
+     * @param dateString the date string that is divided into segments
+     * @param segmentStart the index of the first character of the segment
+     *
+     * @return the index of the next separator character, or the length of the string
+     */
+    private static int findSegmentEnd(final String dateString, final int segmentStart)
+    {
+        final int stringLength = dateString.length();
+        int i = segmentStart;
+
+        while (i < stringLength && DataCiteDateConstants.DATE_SEPARATOR_CHARS.indexOf(dateString.charAt(i)) == -1)
+            i++;
+
+        return i;
+    }
+
+
     /**
      * Parses a number segment from a date string. Numbers such as
      * 1st, 2nd, 3rd, and 4th are considered.
      *
-     * @param dateSegment a part of a date string that starts with a number
+     * @param dateString the date string that contains the segment
+     * @param segmentStart the index of the first character of the segment, which is a digit
+     * @param segmentEnd the index after the last character of the segment
      *
      * @return a parsed number or 0, if nothing could be parsed
      */
-    private static int parseNumberSegment(final String dateSegment)
+    private static int parseNumberSegment(final String dateString, final int segmentStart, final int segmentEnd)
     {
+        // handle day numbers such as: 1st, 2nd, 3rd, 4th, ...
+        if (segmentEnd - segmentStart > 4 || !Character.isDigit(dateString.charAt(segmentEnd - 1)))
+            return parseFirstNumber(dateString, segmentStart, segmentEnd);
+
+        // handle regular numbers
         int parsedNumber = 0;
 
-        final int segmentLength = dateSegment.length();
+        for (int i = segmentStart; i < segmentEnd; i++) {
+            final int digit = Character.digit(dateString.charAt(i), 10);
 
-        try {
-            // handle day numbers such as: 1st, 2nd, 3rd, 4th, ...
-            if (segmentLength > 4 || !Character.isDigit(dateSegment.charAt(segmentLength - 1))) {
-                final Matcher matcher = DataCiteDateConstants.NUMBERS_PATTERN.matcher(dateSegment);
+            if (digit == -1)
+                return 0;
 
-                if (matcher.find())
-                    parsedNumber = Integer.parseInt(matcher.group(1));
-            }
-            // handle regular numbers
-            else
-                parsedNumber = Integer.parseInt(dateSegment);
-        } catch (final NumberFormatException e) { // NOPMD number is null by default
+            parsedNumber = parsedNumber * 10 + digit;
         }
 
         return parsedNumber;
     }
+
+
+    /**
+     * Parses the first sequence of the digits 0 to 9 within a segment of a date string.
+     *
+     * @param dateString the date string that contains the segment
+     * @param segmentStart the index of the first character of the segment
+     * @param segmentEnd the index after the last character of the segment
+     *
+     * @return a parsed number or 0, if there is no such sequence or if it exceeds the integer range
+     */
+    private static int parseFirstNumber(final String dateString, final int segmentStart, final int segmentEnd)
+    {
+        int i = segmentStart;
+
+        while (i < segmentEnd && !isAsciiDigit(dateString.charAt(i)))
+            i++;
+
+        long parsedNumber = 0;
+
+        while (i < segmentEnd && isAsciiDigit(dateString.charAt(i))) {
+            parsedNumber = parsedNumber * 10 + dateString.charAt(i) - '0';
+
+            if (parsedNumber > Integer.MAX_VALUE)
+                return 0;
+
+            i++;
+        }
+
+        return (int) parsedNumber;
+    }
+
+
+    /**
+     * Parses a segment of a date string that may be an English month name,
+     * such as "January" or "Jan".
+     *
+     * @param dateString the date string that contains the segment
+     * @param segmentStart the index of the first character of the segment
+     * @param segmentEnd the index after the last character of the segment
+     *
+     * @return the month of the year or 0, if the segment is no month name
+     */
+    private static int parseMonthSegment(final String dateString, final int segmentStart, final int segmentEnd)
+    {
+        final int segmentLength = segmentEnd - segmentStart;
+
+        for (int i = 0; i < MONTH_NAMES.length; i++) {
+            final String monthName = MONTH_NAMES[i];
+
+            if (monthName.length() == segmentLength && dateString.regionMatches(segmentStart, monthName, 0, segmentLength))
+                return MONTH_VALUES[i];
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Checks if a character is one of the digits 0 to 9.
+     *
+     * @param c the character that is to be checked
+     *
+     * @return true if the character is one of the digits 0 to 9
+     */
+    private static boolean isAsciiDigit(final char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+
+    /**
+     * Creates all strings that are parsed to a month by
+     * {@linkplain DataCiteDateConstants#MONTH_FORMATTER}, i.e. the full name,
+     * the abbreviation, and both concatenated.
+     *
+     * @return an array of month names, the corresponding months are
+     *          stored in {@linkplain #MONTH_VALUES}
+     */
+    private static String[] createMonthNames()
+    {
+        final Month[] months = Month.values();
+        final String[] monthNames = new String[months.length * 3];
+
+        for (int i = 0; i < months.length; i++) {
+            final String fullName = months[i].getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+            final String shortName = months[i].getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+
+            monthNames[i * 3] = fullName;
+            monthNames[i * 3 + 1] = shortName;
+            monthNames[i * 3 + 2] = fullName + shortName;
+        }
+
+        return monthNames;
+    }
+
+
+    /**
+     * Creates the months of the year that correspond to {@linkplain #MONTH_NAMES}.
+     *
+     * @return an array of months of the year
+     */
+    private static int[] createMonthValues()
+    {
+        final int[] monthValues = new int[MONTH_NAMES.length];
+
+        for (int i = 0; i < monthValues.length; i++)
+            monthValues[i] = i / 3 + 1;
+
+        return monthValues;
+    }
 }
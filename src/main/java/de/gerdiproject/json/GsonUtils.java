@@ -18,6 +18,7 @@ package de.gerdiproject.json;
 
 import com.google.gson.GsonBuilder;
 import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequenceFactory;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.LineString;
@@ -27,20 +28,30 @@ import com.vividsolutions.jts.geom.MultiPolygon;
 import com.vividsolutions.jts.geom.Point;
 import com.vividsolutions.jts.geom.Polygon;
 import com.vividsolutions.jts.geom.PrecisionModel;
+import com.vividsolutions.jts.geom.impl.CoordinateArraySequenceFactory;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import de.gerdiproject.json.datacite.Date;
 import de.gerdiproject.json.datacite.DateRange;
 import de.gerdiproject.json.datacite.abstr.AbstractDate;
 import de.gerdiproject.json.datacite.adapters.DataCiteExtensionsAdapter;
 import de.gerdiproject.json.datacite.adapters.DateAdapter;
+import de.gerdiproject.json.datacite.adapters.DeferredCleaningAdapterFactory;
+import de.gerdiproject.json.datacite.adapters.FlyweightAdapterFactory;
 import de.gerdiproject.json.datacite.adapters.FunderIdentifierTypeAdapter;
+import de.gerdiproject.json.datacite.adapters.InterningStringAdapter;
+import de.gerdiproject.json.datacite.adapters.StreamingDataCiteExtensionsAdapterFactory;
+import de.gerdiproject.json.datacite.adapters.StreamingDateAdapter;
+import de.gerdiproject.json.datacite.adapters.StreamingFunderIdentifierTypeAdapter;
 import de.gerdiproject.json.datacite.enums.FunderIdentifierType;
 import de.gerdiproject.json.datacite.extension.DataCiteExtensions;
 import de.gerdiproject.json.datacite.extension.adapters.SoepDataCiteExtensionAdapter;
+import de.gerdiproject.json.datacite.extension.adapters.StreamingSoepDataCiteExtensionAdapterFactory;
 import de.gerdiproject.json.datacite.extension.generic.AbstractResearch;
 import de.gerdiproject.json.datacite.extension.generic.ResearchArea;
 import de.gerdiproject.json.datacite.extension.generic.ResearchDiscipline;
 import de.gerdiproject.json.datacite.extension.generic.adapter.ResearchAdapter;
+import de.gerdiproject.json.datacite.extension.generic.adapter.StreamingResearchAdapter;
 import de.gerdiproject.json.datacite.extension.soep.SoepDataCiteExtension;
 import de.gerdiproject.json.geo.adapters.GeometryAdapter;
 import de.gerdiproject.json.geo.adapters.LineStringAdapter;
@@ -49,6 +60,7 @@ import de.gerdiproject.json.geo.adapters.MultiPointAdapter;
 import de.gerdiproject.json.geo.adapters.MultiPolygonAdapter;
 import de.gerdiproject.json.geo.adapters.PointAdapter;
 import de.gerdiproject.json.geo.adapters.PolygonAdapter;
+import de.gerdiproject.json.geo.adapters.StreamingGeometryAdapter;
 import de.gerdiproject.json.geo.constants.GeometryConstants;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -111,18 +123,179 @@ public final class GsonUtils
      * @return a GsonBuilder that is able to (de-) serialize {@linkplain Geometry} objects
      */
     public static GsonBuilder createGeoJsonGsonBuilder(final int decimalPlaces)
+    {
+        return createGeoJsonGsonBuilder(createGeometryFactory(decimalPlaces));
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to (de-) serialize JSON objects of the
+     * GeRDI metadata schema. Instead of building intermediate JSON trees, all custom
+     * types are written to and read from the JSON stream directly, which is
+     * considerably faster and less memory consuming for large amounts of documents.
+     * The resulting JSON is equal to that of {@linkplain #createGerdiDocumentGsonBuilder()}.
+     *
+     * @return a GsonBuilder that is able to stream JSON objects of the
+     * GeRDI metadata schema
+     */
+    public static GsonBuilder createGerdiDocumentStreamingGsonBuilder()
+    {
+        return createGerdiDocumentStreamingGsonBuilder(createGeoJsonStreamingGsonBuilder());
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to (de-) serialize JSON objects of the
+     * GeRDI metadata schema. Instead of building intermediate JSON trees, all custom
+     * types are written to and read from the JSON stream directly.
+     *
+     * @param geoDecimalPlaces the number of decimal places of GeoJson {@linkplain Coordinate}s
+     *
+     * @return a GsonBuilder that is able to stream JSON objects of the
+     * GeRDI metadata schema
+     */
+    public static GsonBuilder createGerdiDocumentStreamingGsonBuilder(final int geoDecimalPlaces)
+    {
+        return createGerdiDocumentStreamingGsonBuilder(createGeoJsonStreamingGsonBuilder(geoDecimalPlaces));
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to (de-) serialize {@linkplain Geometry} objects with
+     * an unbounded precision, writing and reading coordinates directly from and to the JSON stream.
+     *
+     * @return a GsonBuilder that is able to stream {@linkplain Geometry} objects
+     */
+    public static GsonBuilder createGeoJsonStreamingGsonBuilder()
+    {
+        return createGeoJsonStreamingGsonBuilder(new GeometryFactory());
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to (de-) serialize {@linkplain Geometry} objects
+     * with a specified number of decimal places, writing and reading coordinates directly
+     * from and to the JSON stream.
+     *
+     * @param decimalPlaces the number of decimal places of GeoJson {@linkplain Coordinate}s
+     *
+     * @return a GsonBuilder that is able to stream {@linkplain Geometry} objects
+     */
+    public static GsonBuilder createGeoJsonStreamingGsonBuilder(final int decimalPlaces)
+    {
+        return createGeoJsonStreamingGsonBuilder(createGeometryFactory(decimalPlaces));
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to stream JSON objects of the
+     * GeRDI metadata schema. All deserialized {@linkplain Geometry} objects store their
+     * coordinates in packed double arrays instead of one {@linkplain Coordinate} object
+     * per vertex, which considerably reduces the memory footprint of large polygons.
+     *
+     * @return a GsonBuilder that is able to stream JSON objects of the
+     * GeRDI metadata schema
+     */
+    public static GsonBuilder createGerdiDocumentPackedStreamingGsonBuilder()
+    {
+        return createGerdiDocumentStreamingGsonBuilder(createGeoJsonPackedStreamingGsonBuilder());
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to stream JSON objects of the
+     * GeRDI metadata schema. All deserialized {@linkplain Geometry} objects store their
+     * coordinates in packed double arrays.
+     *
+     * @param geoDecimalPlaces the number of decimal places of GeoJson {@linkplain Coordinate}s
+     *
+     * @return a GsonBuilder that is able to stream JSON objects of the
+     * GeRDI metadata schema
+     */
+    public static GsonBuilder createGerdiDocumentPackedStreamingGsonBuilder(final int geoDecimalPlaces)
+    {
+        return createGerdiDocumentStreamingGsonBuilder(createGeoJsonPackedStreamingGsonBuilder(geoDecimalPlaces));
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to stream {@linkplain Geometry} objects with
+     * an unbounded precision. The coordinates of deserialized objects are read directly
+     * into packed double arrays, which are two- or three-dimensional depending on
+     * whether the JSON coordinates have an elevation.
+     *
+     * @return a GsonBuilder that is able to stream {@linkplain Geometry} objects
+     */
+    public static GsonBuilder createGeoJsonPackedStreamingGsonBuilder()
+    {
+        return createGeoJsonStreamingGsonBuilder(new GeometryFactory(createPackedSequenceFactory()));
+    }
+
+
+    /**
+     * Creates a GsonBuilder that is able to stream {@linkplain Geometry} objects
+     * with a specified number of decimal places. The coordinates of deserialized objects
+     * are read directly into packed double arrays.
+     *
+     * @param decimalPlaces the number of decimal places of GeoJson {@linkplain Coordinate}s
+     *
+     * @return a GsonBuilder that is able to stream {@linkplain Geometry} objects
+     */
+    public static GsonBuilder createGeoJsonPackedStreamingGsonBuilder(final int decimalPlaces)
+    {
+        return createGeoJsonStreamingGsonBuilder(createGeometryFactory(decimalPlaces, createPackedSequenceFactory()));
+    }
+
+
+    /**
+     * Creates a {@linkplain GeometryFactory} with a fixed number of decimal places.
+     *
+     * @param decimalPlaces the number of decimal places of GeoJson {@linkplain Coordinate}s
+     *
+     * @return a {@linkplain GeometryFactory} with a fixed {@linkplain PrecisionModel}
+     */
+    private static GeometryFactory createGeometryFactory(final int decimalPlaces)
+    {
+        return createGeometryFactory(decimalPlaces, CoordinateArraySequenceFactory.instance());
+    }
+
+
+    /**
+     * Creates a {@linkplain GeometryFactory} with a fixed number of decimal places.
+     *
+     * @param decimalPlaces the number of decimal places of GeoJson {@linkplain Coordinate}s
+     * @param sequenceFactory the factory that creates the coordinate sequences of all geometries
+     *
+     * @return a {@linkplain GeometryFactory} with a fixed {@linkplain PrecisionModel}
+     */
+    private static GeometryFactory createGeometryFactory(final int decimalPlaces, final CoordinateSequenceFactory sequenceFactory)
     {
         if (decimalPlaces <= 0)
             throw new IllegalArgumentException(GeometryConstants.INVALID_DECIMALS_ERROR);
 
         final double precision = Math.pow(10.0, decimalPlaces - 1);
-        return createGeoJsonGsonBuilder(new GeometryFactory(new PrecisionModel(precision)));
+        return new GeometryFactory(new PrecisionModel(precision), 0, sequenceFactory);
+    }
+
+
+    /**
+     * Creates a factory for coordinate sequences that are backed by packed double arrays.
+     * Sequences that are created from {@linkplain Coordinate} objects are three-dimensional
+     * in order to retain elevations, while the streaming adapters choose the dimension
+     * depending on the parsed coordinates.
+     *
+     * @return a factory for packed coordinate sequences
+     */
+    private static CoordinateSequenceFactory createPackedSequenceFactory()
+    {
+        return new PackedCoordinateSequenceFactory(PackedCoordinateSequenceFactory.DOUBLE, GeometryConstants.MAX_ORDINATES);
     }
 
 
     private static GsonBuilder createGerdiDocumentGsonBuilder(final GsonBuilder geoJsonBuilder)
     {
         return geoJsonBuilder
+               .registerTypeAdapter(String.class, new InterningStringAdapter())
                .registerTypeAdapter(AbstractDate.class, new DateAdapter())
                .registerTypeAdapter(FunderIdentifierType.class, new FunderIdentifierTypeAdapter())
                .registerTypeAdapter(DateRange.class, new DateAdapter())
@@ -131,7 +304,9 @@ public final class GsonUtils
                .registerTypeAdapter(ResearchArea.class, new ResearchAdapter())
                .registerTypeAdapter(ResearchDiscipline.class, new ResearchAdapter())
                .registerTypeAdapter(DataCiteExtensions.class, new DataCiteExtensionsAdapter())
-               .registerTypeAdapter(SoepDataCiteExtension.class, new SoepDataCiteExtensionAdapter());
+               .registerTypeAdapter(SoepDataCiteExtension.class, new SoepDataCiteExtensionAdapter())
+               .registerTypeAdapterFactory(new DeferredCleaningAdapterFactory())
+               .registerTypeAdapterFactory(new FlyweightAdapterFactory());
     }
 
 
@@ -146,4 +321,40 @@ public final class GsonUtils
                .registerTypeAdapter(Polygon.class, new PolygonAdapter(geoFactory))
                .registerTypeAdapter(MultiPolygon.class, new MultiPolygonAdapter(geoFactory));
     }
+
+
+    private static GsonBuilder createGerdiDocumentStreamingGsonBuilder(final GsonBuilder geoJsonBuilder)
+    {
+        final StreamingDateAdapter dateAdapter = new StreamingDateAdapter();
+        final StreamingResearchAdapter researchAdapter = new StreamingResearchAdapter();
+
+        return geoJsonBuilder
+               .registerTypeAdapter(String.class, new InterningStringAdapter())
+               .registerTypeAdapter(AbstractDate.class, dateAdapter)
+               .registerTypeAdapter(FunderIdentifierType.class, new StreamingFunderIdentifierTypeAdapter())
+               .registerTypeAdapter(DateRange.class, dateAdapter)
+               .registerTypeAdapter(Date.class, dateAdapter)
+               .registerTypeAdapter(AbstractResearch.class, researchAdapter)
+               .registerTypeAdapter(ResearchArea.class, researchAdapter)
+               .registerTypeAdapter(ResearchDiscipline.class, researchAdapter)
+               .registerTypeAdapterFactory(new StreamingDataCiteExtensionsAdapterFactory())
+               .registerTypeAdapterFactory(new StreamingSoepDataCiteExtensionAdapterFactory())
+               .registerTypeAdapterFactory(new DeferredCleaningAdapterFactory())
+               .registerTypeAdapterFactory(new FlyweightAdapterFactory());
+    }
+
+
+    private static GsonBuilder createGeoJsonStreamingGsonBuilder(final GeometryFactory geoFactory)
+    {
+        final StreamingGeometryAdapter geoAdapter = new StreamingGeometryAdapter(geoFactory);
+
+        return new GsonBuilder()
+               .registerTypeAdapter(Geometry.class, geoAdapter)
+               .registerTypeAdapter(Point.class, geoAdapter)
+               .registerTypeAdapter(MultiPoint.class, geoAdapter)
+               .registerTypeAdapter(LineString.class, geoAdapter)
+               .registerTypeAdapter(MultiLineString.class, geoAdapter)
+               .registerTypeAdapter(Polygon.class, geoAdapter)
+               .registerTypeAdapter(MultiPolygon.class, geoAdapter);
+    }
 }
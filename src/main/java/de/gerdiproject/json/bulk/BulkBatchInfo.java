@@ -0,0 +1,45 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.bulk;
+
+import lombok.Value;
+
+/**
+ * This value object contains information about a batch of documents
+ * that was written by a {@linkplain BulkJsonWriter}.
+ *
+ * @author Robin Weiss
+ */
+@Value
+public class BulkBatchInfo
+{
+    /**
+     * -- GETTER --
+     * Retrieves the number of documents that were written in the batch.
+     * @return the number of documents that were written in the batch
+     */
+    private final int documentCount;
+
+
+    /**
+     * -- GETTER --
+     * Retrieves the number of UTF-8 encoded bytes that were written in the batch,
+     * including action lines and line separators.
+     * @return the number of bytes that were written in the batch
+     */
+    private final long byteCount;
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.bulk;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import de.gerdiproject.json.GsonUtils;
+import de.gerdiproject.json.datacite.DataCiteJson;
+
+/**
+ * This class reads documents one at a time from a JSON array, or from newline-delimited
+ * JSON (NDJSON) as written by the {@linkplain BulkJsonWriter} without action lines.
+ * The format is detected by the first token of the input.
+ * <br>
+ * Documents are deserialized directly from a single {@linkplain JsonReader}, so
+ * neither the whole input nor the JSON tree of a single document is held in memory.
+ * Read errors are thrown as {@linkplain JsonIOException}s, because {@linkplain Iterator}s
+ * cannot throw checked exceptions.
+ *
+ * @param <T> the type of the documents
+ *
+ * @author Robin Weiss
+ */
+public class BulkJsonReader<T> implements Iterator<T>, Closeable
+{
+    private final Gson gson;
+    private final Class<T> documentClass;
+    private final JsonReader jsonReader;
+
+    private boolean isStarted;
+    private boolean isArray;
+    private boolean isEmpty;
+
+
+    /**
+     * Creates a reader of {@linkplain DataCiteJson}s from a UTF-8 encoded
+     * {@linkplain InputStream}, using the streaming GeRDI document Gson.
+     *
+     * @param in the {@linkplain InputStream} from which the documents are read
+     *
+     * @return a reader of {@linkplain DataCiteJson}s
+     */
+    public static BulkJsonReader<DataCiteJson> forDataCiteJson(final InputStream in)
+    {
+        return new BulkJsonReader<>(
+                   new InputStreamReader(in, StandardCharsets.UTF_8),
+                   DataCiteJson.class,
+                   GsonUtils.createGerdiDocumentStreamingGsonBuilder().create());
+    }
+
+
+    /**
+     * Creates a reader of {@linkplain DataCiteJson}s from a {@linkplain Reader},
+     * using the streaming GeRDI document Gson.
+     *
+     * @param in the {@linkplain Reader} from which the documents are read
+     *
+     * @return a reader of {@linkplain DataCiteJson}s
+     */
+    public static BulkJsonReader<DataCiteJson> forDataCiteJson(final Reader in)
+    {
+        return new BulkJsonReader<>(in, DataCiteJson.class, GsonUtils.createGerdiDocumentStreamingGsonBuilder().create());
+    }
+
+
+    /**
+     * Constructor that reads documents using a specified {@linkplain Gson}.
+     *
+     * @param in the {@linkplain Reader} from which the documents are read
+     * @param documentClass the class of the documents
+     * @param gson the {@linkplain Gson} that is used to deserialize the documents
+     */
+    public BulkJsonReader(final Reader in, final Class<T> documentClass, final Gson gson)
+    {
+        this.gson = gson;
+        this.documentClass = documentClass;
+        this.jsonReader = new JsonReader(in);
+
+        // multiple top-level values are required for NDJSON
+        this.jsonReader.setLenient(true);
+    }
+
+
+    @Override
+    public boolean hasNext()
+    {
+        try {
+            if (!isStarted) {
+                isStarted = true;
+                isEmpty = isEndOfInput();
+                isArray = !isEmpty && jsonReader.peek() == JsonToken.BEGIN_ARRAY;
+
+                if (isArray)
+                    jsonReader.beginArray();
+            }
+
+            if (isEmpty)
+                return false;
+
+            return isArray
+                   ? jsonReader.hasNext()
+                   : jsonReader.peek() != JsonToken.END_DOCUMENT;
+        } catch (final IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+
+    /**
+     * Checks if the input is empty or consists only of whitespaces, which is a valid
+     * NDJSON document without any documents.
+     *
+     * @return true if the input contains no JSON values
+     *
+     * @throws IOException thrown when the input cannot be read
+     */
+    private boolean isEndOfInput() throws IOException
+    {
+        try {
+            jsonReader.peek();
+            return false;
+        } catch (final EOFException e) { // NOPMD an empty input is not an error
+            return true;
+        }
+    }
+
+
+    @Override
+    public T next()
+    {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return gson.fromJson(jsonReader, documentClass);
+    }
+
+
+    /**
+     * Creates a sequential {@linkplain Stream} of the remaining documents.
+     * Closing the {@linkplain Stream} closes this reader.
+     *
+     * @return a {@linkplain Stream} of the remaining documents
+     */
+    public Stream<T> stream()
+    {
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (final IOException e) {
+                throw new JsonIOException(e);
+            }
+        });
+    }
+
+
+    /**
+     * Closes the underlying {@linkplain Reader}.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        jsonReader.close();
+    }
+}
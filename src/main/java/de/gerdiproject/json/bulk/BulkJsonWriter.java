@@ -0,0 +1,388 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.bulk;
+
+import java.io.CharArrayWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.harvest.IDocument;
+import de.gerdiproject.json.GsonUtils;
+import de.gerdiproject.json.bulk.constants.BulkJsonConstants;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * This class writes {@linkplain IDocument}s as newline-delimited JSON (NDJSON)
+ * to an {@linkplain OutputStream}. Optionally, each document can be preceded by
+ * an ElasticSearch bulk action line that is keyed by the {@linkplain IDocument#getSourceId()}.
+ * <br>
+ * Each document is rendered into a reusable buffer first, and is only passed on to the
+ * {@linkplain OutputStream} if it was serialized completely. Thus, a document that cannot be
+ * serialized leaves no partial line behind, and neither does its action line. The documents are
+ * grouped into batches that are limited by a number of documents and a number of bytes.
+ * When a batch is complete, the underlying {@linkplain OutputStream} is flushed and
+ * the batch listener is notified.
+ *
+ * @author Robin Weiss
+ */
+public class BulkJsonWriter implements Closeable, Flushable
+{
+    private final Gson gson;
+    private final ByteCountingOutputStream countingStream;
+    private final Writer writer;
+    private final CharArrayWriter documentBuffer;
+
+    private int maxBatchBytes;
+    private int maxBatchDocuments;
+
+    /**
+     * -- SETTER --
+     * Sets the name of the ElasticSearch bulk action that precedes each document,
+     * e.g. {@linkplain BulkJsonConstants#INDEX_ACTION}.
+     * If null, no action lines are written.
+     * @param action the bulk action name, or null if no action lines are to be written
+     */
+    @Setter
+    private String action;
+
+
+    /**
+     * -- SETTER --
+     * Sets the optional name of the index that is added to each action line.
+     * @param index the name of the index, or null if it is to be omitted
+     */
+    @Setter
+    private String index;
+
+
+    /**
+     * -- SETTER --
+     * Sets a listener that is notified whenever a batch was written.
+     * @param batchListener a listener that receives information about each written batch
+     */
+    @Setter
+    private Consumer<BulkBatchInfo> batchListener;
+
+
+    /**
+     * -- GETTER --
+     * Retrieves the number of documents that have been written in total.
+     * @return the number of documents that have been written in total
+     */
+    @Getter
+    private long totalDocumentCount;
+
+    private int batchDocumentCount;
+    private long batchStartByteCount;
+
+
+    /**
+     * Constructor that writes documents using the streaming GeRDI document Gson.
+     *
+     * @param out the {@linkplain OutputStream} to which the documents are written
+     */
+    public BulkJsonWriter(final OutputStream out)
+    {
+        this(out, GsonUtils.createGerdiDocumentStreamingGsonBuilder().create());
+    }
+
+
+    /**
+     * Constructor that writes documents using a specified {@linkplain Gson}.
+     *
+     * @param out the {@linkplain OutputStream} to which the documents are written
+     * @param gson the {@linkplain Gson} that is used to serialize the documents
+     */
+    public BulkJsonWriter(final OutputStream out, final Gson gson)
+    {
+        this.gson = gson;
+        this.countingStream = new ByteCountingOutputStream(out);
+        this.writer = new OutputStreamWriter(countingStream, StandardCharsets.UTF_8);
+        this.documentBuffer = new CharArrayWriter();
+
+        this.maxBatchBytes = BulkJsonConstants.DEFAULT_MAX_BATCH_BYTES;
+        this.maxBatchDocuments = BulkJsonConstants.DEFAULT_MAX_BATCH_DOCUMENTS;
+    }
+
+
+    /**
+     * Changes the number of bytes after which a batch is completed.
+     *
+     * @param maxBatchBytes the maximum number of bytes of a batch
+     *
+     * @throws IllegalArgumentException if the number is not greater than zero
+     */
+    public void setMaxBatchBytes(final int maxBatchBytes)
+    {
+        if (maxBatchBytes <= 0)
+            throw new IllegalArgumentException(BulkJsonConstants.INVALID_THRESHOLD_ERROR);
+
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+
+    /**
+     * Changes the number of documents after which a batch is completed.
+     *
+     * @param maxBatchDocuments the maximum number of documents of a batch
+     *
+     * @throws IllegalArgumentException if the number is not greater than zero
+     */
+    public void setMaxBatchDocuments(final int maxBatchDocuments)
+    {
+        if (maxBatchDocuments <= 0)
+            throw new IllegalArgumentException(BulkJsonConstants.INVALID_THRESHOLD_ERROR);
+
+        this.maxBatchDocuments = maxBatchDocuments;
+    }
+
+
+    /**
+     * Retrieves the number of UTF-8 encoded bytes that have been written in total.
+     *
+     * @return the number of bytes that have been written in total
+     */
+    public long getTotalByteCount()
+    {
+        return countingStream.getByteCount();
+    }
+
+
+    /**
+     * Writes a single document, preceded by an action line if an action is set.
+     * Null documents are skipped. If the document cannot be serialized, nothing is written,
+     * and subsequent documents can still be written.
+     *
+     * @param document the document that is to be written
+     *
+     * @throws IOException thrown when the document could not be written
+     */
+    public void write(final IDocument document) throws IOException
+    {
+        if (document == null)
+            return;
+
+        documentBuffer.reset();
+
+        // pretty printing is not applied, because each document must be a single line
+        final JsonWriter jsonWriter = new JsonWriter(documentBuffer);
+
+        // multiple top-level values are required for the action line and the document
+        jsonWriter.setLenient(true);
+
+        if (action != null)
+            writeActionLine(jsonWriter, document.getSourceId());
+
+        try {
+            gson.toJson(document, document.getClass(), jsonWriter);
+        } catch (final JsonIOException e) {
+            throw new IOException(e.getMessage(), e.getCause());
+        }
+
+        documentBuffer.write(BulkJsonConstants.LINE_SEPARATOR);
+
+        // only completely serialized documents are passed on
+        documentBuffer.writeTo(writer);
+
+        // pass the encoded bytes on without flushing the output stream
+        writer.flush();
+
+        totalDocumentCount++;
+        batchDocumentCount++;
+
+        if (batchDocumentCount >= maxBatchDocuments
+            || countingStream.getByteCount() - batchStartByteCount >= maxBatchBytes)
+            completeBatch();
+    }
+
+
+    /**
+     * Writes all documents of an {@linkplain Iterable}.
+     *
+     * @param documents the documents that are to be written
+     *
+     * @throws IOException thrown when a document could not be written
+     */
+    public void writeAll(final Iterable<? extends IDocument> documents) throws IOException
+    {
+        for (final IDocument document : documents)
+            write(document);
+    }
+
+
+    /**
+     * Writes all documents of a {@linkplain Stream}.
+     *
+     * @param documents the documents that are to be written
+     *
+     * @throws IOException thrown when a document could not be written
+     */
+    public void writeAll(final Stream<? extends IDocument> documents) throws IOException
+    {
+        final Iterator<? extends IDocument> iter = documents.iterator();
+
+        while (iter.hasNext())
+            write(iter.next());
+    }
+
+
+    /**
+     * Completes the current batch, flushing the output stream and notifying the
+     * batch listener if the batch contains any documents.
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        completeBatch();
+    }
+
+
+    /**
+     * Completes the current batch and closes the underlying {@linkplain OutputStream}.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        completeBatch();
+        writer.close();
+    }
+
+
+    /**
+     * Writes an ElasticSearch bulk action line.
+     * <br>e.g. {"index":{"_index":"gerdi","_id":"abc"}}
+     *
+     * @param jsonWriter the {@linkplain JsonWriter} of the buffer to which the action line is written
+     * @param sourceId the identifier of the document that follows the action line
+     *
+     * @throws IOException thrown when the action line could not be written
+     */
+    private void writeActionLine(final JsonWriter jsonWriter, final String sourceId) throws IOException
+    {
+        jsonWriter.beginObject();
+        jsonWriter.name(action);
+        jsonWriter.beginObject();
+
+        if (index != null)
+            jsonWriter.name(BulkJsonConstants.INDEX_JSON).value(index);
+
+        jsonWriter.name(BulkJsonConstants.ID_JSON).value(sourceId);
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+
+        documentBuffer.write(BulkJsonConstants.LINE_SEPARATOR);
+    }
+
+
+    /**
+     * Flushes the output stream and notifies the batch listener,
+     * if the current batch contains documents.
+     *
+     * @throws IOException thrown when the output stream could not be flushed
+     */
+    private void completeBatch() throws IOException
+    {
+        writer.flush();
+        countingStream.flushUnderlyingStream();
+
+        if (batchDocumentCount == 0)
+            return;
+
+        final long byteCount = countingStream.getByteCount();
+        final BulkBatchInfo batchInfo = new BulkBatchInfo(batchDocumentCount, byteCount - batchStartByteCount);
+
+        batchDocumentCount = 0;
+        batchStartByteCount = byteCount;
+
+        if (batchListener != null)
+            batchListener.accept(batchInfo);
+    }
+
+
+    /**
+     * An {@linkplain OutputStream} that counts the bytes which pass through it.
+     * Regular flushes are not propagated to the underlying stream, so that the
+     * {@linkplain OutputStreamWriter} can be flushed after each document
+     * without flushing e.g. a network stream.
+     *
+     * @author Robin Weiss
+     */
+    private static class ByteCountingOutputStream extends FilterOutputStream
+    {
+        @Getter
+        private long byteCount;
+
+
+        /**
+         * Constructor that wraps an {@linkplain OutputStream}.
+         *
+         * @param out the stream to which all bytes are passed on
+         */
+        ByteCountingOutputStream(final OutputStream out)
+        {
+            super(out);
+        }
+
+
+        @Override
+        public void write(final int b) throws IOException
+        {
+            out.write(b);
+            byteCount++;
+        }
+
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException
+        {
+            out.write(b, off, len);
+            byteCount += len;
+        }
+
+
+        @Override
+        public void flush()
+        {
+            // flushes are only propagated at the end of each batch
+        }
+
+
+        /**
+         * Flushes the underlying {@linkplain OutputStream}.
+         *
+         * @throws IOException thrown when the stream could not be flushed
+         */
+        public void flushUnderlyingStream() throws IOException
+        {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.bulk.constants;
+
+import de.gerdiproject.json.bulk.BulkJsonWriter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * This static class is a collection of constants that are used by the {@linkplain BulkJsonWriter}.
+ *
+ * @author Robin Weiss
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkJsonConstants
+{
+    public static final int DEFAULT_MAX_BATCH_BYTES = 5 * 1024 * 1024;
+    public static final int DEFAULT_MAX_BATCH_DOCUMENTS = 1000;
+
+    public static final char LINE_SEPARATOR = '\n';
+
+    // ElasticSearch bulk actions
+    public static final String INDEX_ACTION = "index";
+    public static final String CREATE_ACTION = "create";
+    public static final String ID_JSON = "_id";
+    public static final String INDEX_JSON = "_index";
+
+    public static final String INVALID_THRESHOLD_ERROR = "Batch thresholds must be greater than zero!";
+}
@@ -0,0 +1,749 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.columnar;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+
+import de.gerdiproject.harvest.constants.CollectionConstants;
+import de.gerdiproject.json.columnar.constants.ColumnarConstants;
+import de.gerdiproject.json.datacite.DataCiteJson;
+import de.gerdiproject.json.datacite.Date;
+import de.gerdiproject.json.datacite.DateRange;
+import de.gerdiproject.json.datacite.GeoLocation;
+import de.gerdiproject.json.datacite.ResourceType;
+import de.gerdiproject.json.datacite.abstr.AbstractDate;
+import de.gerdiproject.json.datacite.enums.DateType;
+import de.gerdiproject.json.datacite.enums.ResourceTypeGeneral;
+import de.gerdiproject.json.datacite.nested.Publisher;
+
+/**
+ * This class stores selected fields of many {@linkplain DataCiteJson} documents column by column,
+ * which requires only a fraction of the memory of the documents themselves.
+ * <br><br>
+ * The following fields are stored:
+ * <ul>
+ * <li>source identifier</li>
+ * <li>publication year, as an int column</li>
+ * <li>publisher, language, and resource type, as dictionary-encoded String columns</li>
+ * <li>dates, as epoch milliseconds in long columns</li>
+ * <li>geo locations, with points and boxes as double columns, and polygons as shared references</li>
+ * </ul>
+ * Multi-valued fields are stored in flat columns, and each document refers to its
+ * values via an offset array. All other fields are discarded, and dates lose sub-millisecond precision.
+ * Documents that are restored via {@linkplain #get(int)} are new objects that only contain
+ * the stored fields. Boxes of restored geo locations are rebuilt from their bounds.
+ * <br><br>
+ * Like the documents themselves, batches must not be modified by multiple threads.
+ *
+ * @author Robin Weiss
+ */
+@SuppressWarnings("PMD.TooManyFields") // every column is a field
+public class DataCiteColumnBatch
+{
+    private static final DateType[] DATE_TYPES = DateType.values();
+    private static final ResourceTypeGeneral[] RESOURCE_TYPES = ResourceTypeGeneral.values();
+
+    private final StringDictionary dictionary;
+
+    // one entry per document
+    private int size;
+    private String[] sourceIds;
+    private int[] publicationYears;
+    private int[] publisherCodes;
+    private int[] publisherLanguageCodes;
+    private int[] languageCodes;
+    private int[] resourceTypeCodes;
+    private byte[] resourceTypeGenerals;
+    private int[] dateOffsets;
+    private int[] geoLocationOffsets;
+
+    // one entry per date
+    private int dateCount;
+    private long[] dateStarts;
+    private long[] dateEnds;
+    private boolean[] dateRanges;
+    private byte[] dateTypes;
+    private int[] dateInformationCodes;
+
+    // one entry per geo location
+    private int geoLocationCount;
+    private int[] placeCodes;
+    private double[] longitudes;
+    private double[] latitudes;
+    private double[] boxWests;
+    private double[] boxEasts;
+    private double[] boxSouths;
+    private double[] boxNorths;
+    private int[] polygonOffsets;
+
+    // one entry per polygon
+    private int polygonCount;
+    private Polygon[] polygons;
+
+
+    /**
+     * Constructor that creates an empty batch.
+     */
+    public DataCiteColumnBatch()
+    {
+        this.dictionary = new StringDictionary();
+
+        final int capacity = ColumnarConstants.INITIAL_CAPACITY;
+        this.sourceIds = new String[capacity];
+        this.publicationYears = new int[capacity];
+        this.publisherCodes = new int[capacity];
+        this.publisherLanguageCodes = new int[capacity];
+        this.languageCodes = new int[capacity];
+        this.resourceTypeCodes = new int[capacity];
+        this.resourceTypeGenerals = new byte[capacity];
+        this.dateOffsets = new int[capacity + 1];
+        this.geoLocationOffsets = new int[capacity + 1];
+
+        this.dateStarts = new long[capacity];
+        this.dateEnds = new long[capacity];
+        this.dateRanges = new boolean[capacity];
+        this.dateTypes = new byte[capacity];
+        this.dateInformationCodes = new int[capacity];
+
+        this.placeCodes = new int[capacity];
+        this.longitudes = new double[capacity];
+        this.latitudes = new double[capacity];
+        this.boxWests = new double[capacity];
+        this.boxEasts = new double[capacity];
+        this.boxSouths = new double[capacity];
+        this.boxNorths = new double[capacity];
+        this.polygonOffsets = new int[capacity + 1];
+
+        this.polygons = new Polygon[capacity];
+    }
+
+
+    /**
+     * Converts a {@linkplain Collection} of documents to a new batch.
+     *
+     * @param documents the documents that are to be stored
+     *
+     * @return a batch that contains the stored fields of all documents
+     */
+    public static DataCiteColumnBatch of(final Collection<DataCiteJson> documents)
+    {
+        final DataCiteColumnBatch batch = new DataCiteColumnBatch();
+
+        for (final DataCiteJson document : documents)
+            batch.add(document);
+
+        return batch;
+    }
+
+
+    /**
+     * Appends the stored fields of a document to the batch.
+     *
+     * @param document the document that is to be stored
+     */
+    public void add(final DataCiteJson document)
+    {
+        if (size == sourceIds.length)
+            growDocumentColumns();
+
+        sourceIds[size] = document.getSourceId();
+
+        final Integer publicationYear = document.getPublicationYear();
+        publicationYears[size] = publicationYear == null ? ColumnarConstants.NO_PUBLICATION_YEAR : publicationYear;
+
+        final Publisher publisher = document.getPublisher();
+        publisherCodes[size] = dictionary.encode(publisher == null ? null : publisher.getValue());
+        publisherLanguageCodes[size] = dictionary.encode(publisher == null ? null : publisher.getLang());
+
+        languageCodes[size] = dictionary.encode(document.getLanguage());
+
+        final ResourceType resourceType = document.getResourceType();
+        resourceTypeCodes[size] = dictionary.encode(resourceType == null ? null : resourceType.getValue());
+        resourceTypeGenerals[size] = encodeEnum(resourceType == null ? null : resourceType.getResourceTypeGeneral());
+
+        addDates(document.getDates());
+        addGeoLocations(document.getGeoLocations());
+
+        size++;
+        dateOffsets[size] = dateCount;
+        geoLocationOffsets[size] = geoLocationCount;
+    }
+
+
+    /**
+     * Restores a document from the batch.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return a new {@linkplain DataCiteJson} that contains the stored fields of the document
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not lower than the size of the batch
+     */
+    public DataCiteJson get(final int index)
+    {
+        checkIndex(index, size);
+
+        final DataCiteJson document = new DataCiteJson(sourceIds[index]);
+
+        if (publicationYears[index] != ColumnarConstants.NO_PUBLICATION_YEAR)
+            document.setPublicationYear(publicationYears[index]);
+
+        final String publisherName = dictionary.decode(publisherCodes[index]);
+
+        if (publisherName != null)
+            document.setPublisher(new Publisher(publisherName, dictionary.decode(publisherLanguageCodes[index])));
+
+        document.setLanguage(dictionary.decode(languageCodes[index]));
+
+        final String resourceTypeValue = dictionary.decode(resourceTypeCodes[index]);
+        final byte resourceTypeGeneral = resourceTypeGenerals[index];
+
+        if (resourceTypeValue != null || resourceTypeGeneral != ColumnarConstants.NO_ENUM) {
+            document.setResourceType(new ResourceType(
+                                         resourceTypeValue,
+                                         resourceTypeGeneral == ColumnarConstants.NO_ENUM ? null : RESOURCE_TYPES[resourceTypeGeneral]));
+        }
+
+        document.addDates(getDates(index));
+        document.addGeoLocations(getGeoLocations(index));
+
+        return document;
+    }
+
+
+    /**
+     * Restores all documents from the batch.
+     *
+     * @return a list of new {@linkplain DataCiteJson}s in the order in which they were added
+     */
+    public List<DataCiteJson> toDocuments()
+    {
+        final List<DataCiteJson> documents = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            documents.add(get(i));
+
+        return documents;
+    }
+
+
+    /**
+     * Retrieves the number of documents in the batch.
+     *
+     * @return the number of documents in the batch
+     */
+    public int size()
+    {
+        return size;
+    }
+
+
+    /**
+     * Retrieves the number of distinct Strings that are stored in the batch.
+     *
+     * @return the number of distinct Strings that are stored in the batch
+     */
+    public int getDistinctStringCount()
+    {
+        return dictionary.size();
+    }
+
+
+    /**
+     * Retrieves the source identifier of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the source identifier of the document
+     */
+    public String getSourceId(final int index)
+    {
+        checkIndex(index, size);
+        return sourceIds[index];
+    }
+
+
+    /**
+     * Retrieves the publication year of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the publication year of the document,
+     *          or {@linkplain ColumnarConstants#NO_PUBLICATION_YEAR} if it has none
+     */
+    public int getPublicationYear(final int index)
+    {
+        checkIndex(index, size);
+        return publicationYears[index];
+    }
+
+
+    /**
+     * Retrieves the publisher name of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the publisher name of the document, or null if it has none
+     */
+    public String getPublisher(final int index)
+    {
+        checkIndex(index, size);
+        return dictionary.decode(publisherCodes[index]);
+    }
+
+
+    /**
+     * Retrieves the language of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the language of the document, or null if it has none
+     */
+    public String getLanguage(final int index)
+    {
+        checkIndex(index, size);
+        return dictionary.decode(languageCodes[index]);
+    }
+
+
+    /**
+     * Retrieves the general resource type of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the general resource type of the document, or null if it has none
+     */
+    public ResourceTypeGeneral getResourceTypeGeneral(final int index)
+    {
+        checkIndex(index, size);
+        final byte code = resourceTypeGenerals[index];
+        return code == ColumnarConstants.NO_ENUM ? null : RESOURCE_TYPES[code];
+    }
+
+
+    /**
+     * Retrieves the number of dates of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the number of dates of the document
+     */
+    public int getDateCount(final int index)
+    {
+        checkIndex(index, size);
+        return dateOffsets[index + 1] - dateOffsets[index];
+    }
+
+
+    /**
+     * Retrieves the beginning of a date of a document.
+     * For single dates, this is the date itself.
+     *
+     * @param index the index of the document within the batch
+     * @param dateIndex the index of the date within the dates of the document
+     *
+     * @return the milliseconds since 01/01/1970 00:00:00,
+     *          or {@linkplain ColumnarConstants#NO_DATE} if the date range has no beginning
+     */
+    public long getDateStart(final int index, final int dateIndex)
+    {
+        return dateStarts[getDatePosition(index, dateIndex)];
+    }
+
+
+    /**
+     * Retrieves the end of a date of a document.
+     * For single dates, this is the date itself.
+     *
+     * @param index the index of the document within the batch
+     * @param dateIndex the index of the date within the dates of the document
+     *
+     * @return the milliseconds since 01/01/1970 00:00:00,
+     *          or {@linkplain ColumnarConstants#NO_DATE} if the date range has no end
+     */
+    public long getDateEnd(final int index, final int dateIndex)
+    {
+        return dateEnds[getDatePosition(index, dateIndex)];
+    }
+
+
+    /**
+     * Retrieves the type of a date of a document.
+     *
+     * @param index the index of the document within the batch
+     * @param dateIndex the index of the date within the dates of the document
+     *
+     * @return the event that is marked by the date
+     */
+    public DateType getDateType(final int index, final int dateIndex)
+    {
+        final byte code = dateTypes[getDatePosition(index, dateIndex)];
+        return code == ColumnarConstants.NO_ENUM ? null : DATE_TYPES[code];
+    }
+
+
+    /**
+     * Retrieves the number of geo locations of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return the number of geo locations of the document
+     */
+    public int getGeoLocationCount(final int index)
+    {
+        checkIndex(index, size);
+        return geoLocationOffsets[index + 1] - geoLocationOffsets[index];
+    }
+
+
+    /**
+     * Retrieves the longitude of the point of a geo location of a document.
+     *
+     * @param index the index of the document within the batch
+     * @param geoIndex the index of the geo location within the geo locations of the document
+     *
+     * @return the longitude of the point, or {@linkplain Double#NaN} if the geo location has no point
+     */
+    public double getLongitude(final int index, final int geoIndex)
+    {
+        return longitudes[getGeoLocationPosition(index, geoIndex)];
+    }
+
+
+    /**
+     * Retrieves the latitude of the point of a geo location of a document.
+     *
+     * @param index the index of the document within the batch
+     * @param geoIndex the index of the geo location within the geo locations of the document
+     *
+     * @return the latitude of the point, or {@linkplain Double#NaN} if the geo location has no point
+     */
+    public double getLatitude(final int index, final int geoIndex)
+    {
+        return latitudes[getGeoLocationPosition(index, geoIndex)];
+    }
+
+
+    /**
+     * Appends dates to the date columns.
+     *
+     * @param dates the dates of a document, or null
+     */
+    private void addDates(final Collection<AbstractDate> dates)
+    {
+        if (dates == null)
+            return;
+
+        if (dateCount + dates.size() > dateStarts.length)
+            growDateColumns(dateCount + dates.size());
+
+        for (final AbstractDate date : dates) {
+            if (date instanceof DateRange) {
+                final DateRange range = (DateRange) date;
+                dateStarts[dateCount] = encodeInstant(range.getSince());
+                dateEnds[dateCount] = encodeInstant(range.getUntil());
+                dateRanges[dateCount] = true;
+            } else {
+                final long epochMilli = encodeInstant(((Date) date).getDate());
+                dateStarts[dateCount] = epochMilli;
+                dateEnds[dateCount] = epochMilli;
+                dateRanges[dateCount] = false;
+            }
+
+            dateTypes[dateCount] = encodeEnum(date.getType());
+            dateInformationCodes[dateCount] = dictionary.encode(date.getInformation());
+            dateCount++;
+        }
+    }
+
+
+    /**
+     * Appends geo locations to the geo location columns.
+     *
+     * @param geoLocations the geo locations of a document, or null
+     */
+    private void addGeoLocations(final Collection<GeoLocation> geoLocations)
+    {
+        if (geoLocations == null)
+            return;
+
+        if (geoLocationCount + geoLocations.size() > placeCodes.length)
+            growGeoLocationColumns(geoLocationCount + geoLocations.size());
+
+        for (final GeoLocation geo : geoLocations) {
+            placeCodes[geoLocationCount] = dictionary.encode(geo.getPlace());
+
+            final Point point = geo.getPoint();
+            longitudes[geoLocationCount] = point == null ? Double.NaN : point.getX();
+            latitudes[geoLocationCount] = point == null ? Double.NaN : point.getY();
+
+            final Envelope bounds = geo.getBox() == null ? null : geo.getBox().getEnvelopeInternal();
+            boxWests[geoLocationCount] = bounds == null ? Double.NaN : bounds.getMinX();
+            boxEasts[geoLocationCount] = bounds == null ? Double.NaN : bounds.getMaxX();
+            boxSouths[geoLocationCount] = bounds == null ? Double.NaN : bounds.getMinY();
+            boxNorths[geoLocationCount] = bounds == null ? Double.NaN : bounds.getMaxY();
+
+            addPolygons(geo.getPolygons());
+
+            geoLocationCount++;
+            polygonOffsets[geoLocationCount] = polygonCount;
+        }
+    }
+
+
+    /**
+     * Appends polygons to the polygon column.
+     *
+     * @param addedPolygons the polygons of a geo location, or null
+     */
+    private void addPolygons(final Set<Polygon> addedPolygons)
+    {
+        if (addedPolygons == null)
+            return;
+
+        if (polygonCount + addedPolygons.size() > polygons.length)
+            polygons = Arrays.copyOf(polygons, grownCapacity(polygons.length, polygonCount + addedPolygons.size()));
+
+        for (final Polygon polygon : addedPolygons)
+            polygons[polygonCount++] = polygon;
+    }
+
+
+    /**
+     * Restores the dates of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return a list of new dates
+     */
+    private List<AbstractDate> getDates(final int index)
+    {
+        final int end = dateOffsets[index + 1];
+        final List<AbstractDate> dates = new ArrayList<>(end - dateOffsets[index]);
+
+        for (int i = dateOffsets[index]; i < end; i++) {
+            final DateType type = dateTypes[i] == ColumnarConstants.NO_ENUM ? null : DATE_TYPES[dateTypes[i]];
+            final AbstractDate date = dateRanges[i]
+                                      ? new DateRange(decodeInstant(dateStarts[i]), decodeInstant(dateEnds[i]), type)
+                                      : new Date(decodeInstant(dateStarts[i]), type);
+            date.setInformation(dictionary.decode(dateInformationCodes[i]));
+            dates.add(date);
+        }
+
+        return dates;
+    }
+
+
+    /**
+     * Restores the geo locations of a document.
+     *
+     * @param index the index of the document within the batch
+     *
+     * @return a list of new geo locations
+     */
+    private List<GeoLocation> getGeoLocations(final int index)
+    {
+        final int end = geoLocationOffsets[index + 1];
+        final List<GeoLocation> geoLocations = new ArrayList<>(end - geoLocationOffsets[index]);
+
+        for (int i = geoLocationOffsets[index]; i < end; i++) {
+            final GeoLocation geo = new GeoLocation(dictionary.decode(placeCodes[i]));
+
+            if (!Double.isNaN(longitudes[i]))
+                geo.setPoint(longitudes[i], latitudes[i]);
+
+            if (!Double.isNaN(boxWests[i]))
+                geo.setBox(boxWests[i], boxEasts[i], boxSouths[i], boxNorths[i]);
+
+            if (polygonOffsets[i] < polygonOffsets[i + 1]) {
+                final List<Geometry> geoPolygons = new ArrayList<>(polygonOffsets[i + 1] - polygonOffsets[i]);
+
+                for (int j = polygonOffsets[i]; j < polygonOffsets[i + 1]; j++)
+                    geoPolygons.add(polygons[j]);
+
+                geo.addPolygons(geoPolygons);
+            }
+
+            geoLocations.add(geo);
+        }
+
+        return geoLocations;
+    }
+
+
+    /**
+     * Retrieves the position of a date of a document within the date columns.
+     *
+     * @param index the index of the document within the batch
+     * @param dateIndex the index of the date within the dates of the document
+     *
+     * @return the position of the date within the date columns
+     */
+    private int getDatePosition(final int index, final int dateIndex)
+    {
+        checkIndex(index, size);
+        checkIndex(dateIndex, dateOffsets[index + 1] - dateOffsets[index]);
+        return dateOffsets[index] + dateIndex;
+    }
+
+
+    /**
+     * Retrieves the position of a geo location of a document within the geo location columns.
+     *
+     * @param index the index of the document within the batch
+     * @param geoIndex the index of the geo location within the geo locations of the document
+     *
+     * @return the position of the geo location within the geo location columns
+     */
+    private int getGeoLocationPosition(final int index, final int geoIndex)
+    {
+        checkIndex(index, size);
+        checkIndex(geoIndex, geoLocationOffsets[index + 1] - geoLocationOffsets[index]);
+        return geoLocationOffsets[index] + geoIndex;
+    }
+
+
+    /**
+     * Doubles the capacity of all columns that have one entry per document.
+     */
+    private void growDocumentColumns()
+    {
+        final int capacity = grownCapacity(sourceIds.length, size + 1);
+        sourceIds = Arrays.copyOf(sourceIds, capacity);
+        publicationYears = Arrays.copyOf(publicationYears, capacity);
+        publisherCodes = Arrays.copyOf(publisherCodes, capacity);
+        publisherLanguageCodes = Arrays.copyOf(publisherLanguageCodes, capacity);
+        languageCodes = Arrays.copyOf(languageCodes, capacity);
+        resourceTypeCodes = Arrays.copyOf(resourceTypeCodes, capacity);
+        resourceTypeGenerals = Arrays.copyOf(resourceTypeGenerals, capacity);
+        dateOffsets = Arrays.copyOf(dateOffsets, capacity + 1);
+        geoLocationOffsets = Arrays.copyOf(geoLocationOffsets, capacity + 1);
+    }
+
+
+    /**
+     * Increases the capacity of all columns that have one entry per date.
+     *
+     * @param minCapacity the number of dates that must fit into the columns
+     */
+    private void growDateColumns(final int minCapacity)
+    {
+        final int capacity = grownCapacity(dateStarts.length, minCapacity);
+        dateStarts = Arrays.copyOf(dateStarts, capacity);
+        dateEnds = Arrays.copyOf(dateEnds, capacity);
+        dateRanges = Arrays.copyOf(dateRanges, capacity);
+        dateTypes = Arrays.copyOf(dateTypes, capacity);
+        dateInformationCodes = Arrays.copyOf(dateInformationCodes, capacity);
+    }
+
+
+    /**
+     * Increases the capacity of all columns that have one entry per geo location.
+     *
+     * @param minCapacity the number of geo locations that must fit into the columns
+     */
+    private void growGeoLocationColumns(final int minCapacity)
+    {
+        final int capacity = grownCapacity(placeCodes.length, minCapacity);
+        placeCodes = Arrays.copyOf(placeCodes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        boxWests = Arrays.copyOf(boxWests, capacity);
+        boxEasts = Arrays.copyOf(boxEasts, capacity);
+        boxSouths = Arrays.copyOf(boxSouths, capacity);
+        boxNorths = Arrays.copyOf(boxNorths, capacity);
+        polygonOffsets = Arrays.copyOf(polygonOffsets, capacity + 1);
+    }
+
+
+    /**
+     * Calculates the new capacity of a column that is too small.
+     *
+     * @param capacity the current capacity of the column
+     * @param minCapacity the number of entries that must fit into the column
+     *
+     * @return the doubled capacity, or the minimum capacity if that is larger
+     */
+    private static int grownCapacity(final int capacity, final int minCapacity)
+    {
+        return Math.max(capacity * 2, minCapacity);
+    }
+
+
+    /**
+     * Converts an {@linkplain Instant} to milliseconds since 01/01/1970 00:00:00.
+     *
+     * @param instant the {@linkplain Instant} that is to be converted, or null
+     *
+     * @return the milliseconds since 01/01/1970 00:00:00, or {@linkplain ColumnarConstants#NO_DATE}
+     */
+    private static long encodeInstant(final Instant instant)
+    {
+        return instant == null ? ColumnarConstants.NO_DATE : instant.toEpochMilli();
+    }
+
+
+    /**
+     * Converts milliseconds since 01/01/1970 00:00:00 to an {@linkplain Instant}.
+     *
+     * @param epochMilli the milliseconds since 01/01/1970 00:00:00, or {@linkplain ColumnarConstants#NO_DATE}
+     *
+     * @return an {@linkplain Instant}, or null
+     */
+    private static Instant decodeInstant(final long epochMilli)
+    {
+        return epochMilli == ColumnarConstants.NO_DATE ? null : Instant.ofEpochMilli(epochMilli);
+    }
+
+
+    /**
+     * Converts an enum constant to its ordinal.
+     *
+     * @param value the enum constant, or null
+     *
+     * @return the ordinal of the enum constant, or {@linkplain ColumnarConstants#NO_ENUM}
+     */
+    private static byte encodeEnum(final Enum<?> value)
+    {
+        return value == null ? ColumnarConstants.NO_ENUM : (byte) value.ordinal();
+    }
+
+
+    /**
+     * Checks if an index is within a specified range.
+     *
+     * @param index the index that is to be checked
+     * @param upperBound the exclusive upper bound of the index
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not lower than the upper bound
+     */
+    private static void checkIndex(final int index, final int upperBound)
+    {
+        if (index < 0 || index >= upperBound)
+            throw new IndexOutOfBoundsException(String.format(CollectionConstants.INDEX_OUT_OF_BOUNDS_ERROR, index, upperBound));
+    }
+}
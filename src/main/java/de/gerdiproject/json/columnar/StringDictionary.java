@@ -0,0 +1,99 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.gerdiproject.json.columnar.constants.ColumnarConstants;
+
+/**
+ * This class assigns consecutive integer codes to distinct {@linkplain String}s,
+ * so that columns of recurring Strings can be stored as integer arrays,
+ * with each distinct String being stored only once.
+ *
+ * @author Robin Weiss
+ */
+public class StringDictionary
+{
+    private final Map<String, Integer> codes;
+    private final List<String> values;
+
+
+    /**
+     * Constructor that creates an empty dictionary.
+     */
+    public StringDictionary()
+    {
+        this.codes = new HashMap<>();
+        this.values = new ArrayList<>();
+    }
+
+
+    /**
+     * Retrieves the code of a specified String, adding the String to the dictionary
+     * if it was not encoded before.
+     *
+     * @param value the String that is to be encoded
+     *
+     * @return the code of the String, or {@linkplain ColumnarConstants#NO_STRING} if the String is null
+     */
+    public int encode(final String value)
+    {
+        if (value == null)
+            return ColumnarConstants.NO_STRING;
+
+        final Integer code = codes.get(value);
+
+        if (code != null)
+            return code;
+
+        final int newCode = values.size();
+        values.add(value);
+        codes.put(value, newCode);
+
+        return newCode;
+    }
+
+
+    /**
+     * Retrieves the String of a specified code.
+     *
+     * @param code a code that was returned by {@linkplain #encode(String)}
+     *
+     * @return the String of the code, or null if the code is {@linkplain ColumnarConstants#NO_STRING}
+     *
+     * @throws IndexOutOfBoundsException if the code was never assigned
+     */
+    public String decode(final int code)
+    {
+        return code == ColumnarConstants.NO_STRING ? null : values.get(code);
+    }
+
+
+    /**
+     * Retrieves the number of distinct Strings in the dictionary.
+     *
+     * @return the number of distinct Strings in the dictionary
+     */
+    public int size()
+    {
+        return values.size();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.columnar.constants;
+
+import de.gerdiproject.json.columnar.DataCiteColumnBatch;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * This static class is a collection of constants that are used by the {@linkplain DataCiteColumnBatch}.
+ *
+ * @author Robin Weiss
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ColumnarConstants
+{
+    public static final int INITIAL_CAPACITY = 16;
+
+    // markers of missing values
+    public static final int NO_STRING = -1;
+    public static final int NO_PUBLICATION_YEAR = Integer.MIN_VALUE;
+    public static final long NO_DATE = Long.MIN_VALUE;
+    public static final byte NO_ENUM = -1;
+}
@@ -15,14 +15,21 @@
  */
 package de.gerdiproject.json.datacite;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 
 import de.gerdiproject.harvest.IDocument;
 import de.gerdiproject.harvest.utils.CollectionUtils;
+import de.gerdiproject.harvest.utils.StringUtils;
 import de.gerdiproject.json.GsonUtils;
 import de.gerdiproject.json.datacite.abstr.AbstractDate;
 import de.gerdiproject.json.datacite.extension.DataCiteExtensions;
@@ -31,10 +38,13 @@ import de.gerdiproject.json.datacite.extension.generic.AbstractResearch;
 import de.gerdiproject.json.datacite.extension.generic.ResearchData;
 import de.gerdiproject.json.datacite.extension.generic.WebLink;
 import de.gerdiproject.json.datacite.nested.Publisher;
+import de.gerdiproject.json.fingerprint.JsonFingerprinter;
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import lombok.ToString;
 
 /**
  * A JSON object representing an extended DataCite document, representing core
@@ -51,7 +61,8 @@ import lombok.Setter;
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.TooManyFields"}) // yes, this class is big, but also necessary the way it is
 public class DataCiteJson implements IDocument
 {
-    private static final Gson GSON = GsonUtils.createGerdiDocumentGsonBuilder().create();
+    private static final Gson GSON = GsonUtils.createGerdiDocumentStreamingGsonBuilder().create();
+    private static final JsonFingerprinter FINGERPRINTER = new JsonFingerprinter(GsonUtils.createGerdiDocumentStreamingGsonBuilder());
 
 
     /**
@@ -60,8 +71,8 @@ public class DataCiteJson implements IDocument
      * within the context of the harvester that generates it.
      * @return the identifier of the source of the document
      */
-    @NonNull
-    private final transient String sourceId;
+    @NonNull @Setter(AccessLevel.NONE)
+    private transient String sourceId;
 
 
     /**
@@ -76,22 +87,10 @@ public class DataCiteJson implements IDocument
     private Identifier identifier;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves the main researchers involved in producing the data, or the authors of the
-     * publication, in priority order.
-     * @return the main researchers involved in producing the data, or the authors of the
-     * publication, in priority order
-     */
     @Setter(AccessLevel.NONE)
     private List<Creator> creators;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves the names or title by which the resource is known.
-     * @return the names or title by which the resource is known
-     */
     @Setter(AccessLevel.NONE)
     private Set<Title> titles;
 
@@ -133,39 +132,19 @@ public class DataCiteJson implements IDocument
      * -- GETTER --
      * Retrieves the description of the resource.
      * @return the description of the resource
-     *
-     * -- SETTER --
-     * Sets the description of the resource.
-     * @param resourceType the description of the resource
      */
+    @Setter(AccessLevel.NONE)
     private ResourceType resourceType;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves subjects, keywords, classification codes, or key phrases describing the
-     * resource.
-     * @return the subjects, keywords, classification codes, or key phrases
-     */
     @Setter(AccessLevel.NONE)
     private Set<Subject> subjects;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves institutions or persons responsible for collecting, managing,
-     * distributing, or otherwise contributing to the development of the resource.
-     * @return institutions or persons
-     */
     @Setter(AccessLevel.NONE)
     private Set<Contributor> contributors;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves the different dates relevant to the work.
-     * @return the different dates relevant to the work
-     */
     @Setter(AccessLevel.NONE)
     private Set<AbstractDate> dates;
 
@@ -175,56 +154,22 @@ public class DataCiteJson implements IDocument
      * Retrieves the primary language of the resource.
      * <br>e.g. de, en-US
      * @return the primary language of the resource
-     *
-     * -- SETTER --
-     * Sets the primary language of the resource.
-     * <br>e.g. de, en-US
-     * <br>Allowed values are taken from IETF BCP 47, ISO 639-1 language codes.
-     * @param language the primary language of the resource
      */
     private String language;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves the identifiers other than the primary Identifier applied to the
-     * resource being registered.
-     * AlternateIdentifier should be used for another identifier of the same
-     * instance (same location, same file).
-     * @return the identifiers other than the primary Identifier applied to the
-     * resource being registered
-     */
     @Setter(AccessLevel.NONE)
     private Set<AlternateIdentifier> alternateIdentifiers;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves identifiers of related resources.
-     * These must be globally unique identifiers.
-     * @return the identifiers of related resources
-     */
     @Setter(AccessLevel.NONE)
     private Set<RelatedIdentifier> relatedIdentifiers;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves unstructured information about the resource size, duration, or extent.
-     * <br>e.g. "15 pages", "6 MB", "15 seconds"
-     * @return unstructured information about the resource size, duration, or extent
-     */
     @Setter(AccessLevel.NONE)
     private Set<String> sizes;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves the technical format of the resource.
-     * <br> e.g. PDF, XML, application/pdf, text/xml
-     *
-     * @return the technical format of the resource
-     */
     @Setter(AccessLevel.NONE)
     private Set<String> formats;
 
@@ -242,41 +187,18 @@ public class DataCiteJson implements IDocument
     private String version;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves rights information for this resource.
-     * @return any rights information for this resource
-     */
     @Setter(AccessLevel.NONE)
     private Set<Rights> rightsList;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves all additional information that does not fit in any of the other categories.
-     * @return additional information that does not fit in any of the other categories
-     */
     @Setter(AccessLevel.NONE)
     private Set<Description> descriptions;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves spatial regions or named places where the data was gathered or about which
-     * the data is focused.
-     * @return the spatial regions or named places where the data was gathered or about which
-     * the data is focused
-     */
     @Setter(AccessLevel.NONE)
     private Set<GeoLocation> geoLocations;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves information about financial support (funding) for the resource being
-     * registered.
-     * @return information about funding for the resource being registered
-     */
     @Setter(AccessLevel.NONE)
     private Set<FundingReference> fundingReferences;
 
@@ -296,31 +218,14 @@ public class DataCiteJson implements IDocument
     private String repositoryIdentifier;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves weblinks related to the resource.
-     * @return weblinks related to the resource
-     */
     @Setter(AccessLevel.NONE)
     private Set<WebLink> webLinks;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves references to downloadable research data.
-     * @return references to downloadable research data
-     */
     @Setter(AccessLevel.NONE)
     private Set<ResearchData> researchDataList;
 
 
-    /**
-     * -- GETTER --
-     * Retrieves a set of human readable names of the research disciplines,
-     * i.e. the topics or domains that this document covers.
-     * <br>e.g. Computer Science, Geography
-     * @return the research disciplines to which the document belongs
-     */
     @Setter(AccessLevel.NONE)
     private Set<AbstractResearch> researchDisciplines;
 
@@ -336,6 +241,24 @@ public class DataCiteJson implements IDocument
     private DataCiteExtensions extensions;
 
 
+    /**
+     * -- GETTER --
+     * Checks if elements that are added via the add-methods are held raw, and cleaned
+     * not before they are read or serialized.
+     * @return true if elements are cleaned lazily
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean deferredCleaning;
+
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient List<Runnable> deferredAdditions;
+
+
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient RecycledCollections recycled;
+
+
     /**
      * Constructor that sets up the GeRDI extension.
      *
@@ -348,6 +271,203 @@ public class DataCiteJson implements IDocument
     }
 
 
+    /**
+     * Enables or disables lazy cleaning. If enabled, elements that are added via the
+     * add-methods are held raw, and are cleaned and validated in a single pass when
+     * any of the collections is read, or when the document is serialized.
+     * The cleaned document is identical to one that was cleaned immediately.
+     * This avoids cleaning documents that are discarded before being serialized.
+     * Disabling lazy cleaning cleans all elements that were added before.
+     *
+     * @param deferredCleaning if true, added elements are cleaned lazily
+     */
+    public void setDeferredCleaning(final boolean deferredCleaning)
+    {
+        if (!deferredCleaning)
+            cleanDeferredElements();
+
+        this.deferredCleaning = deferredCleaning;
+    }
+
+
+    /**
+     * Cleans and adds all elements that were added while lazy cleaning was enabled,
+     * in the order in which they were added.
+     * This method is called automatically when a collection is read or when
+     * the document is serialized.
+     * If an element cannot be cleaned, the exception is passed on, and the additions
+     * that followed it are held until this method is called again.
+     */
+    public void cleanDeferredElements()
+    {
+        if (deferredAdditions == null)
+            return;
+
+        final List<Runnable> additions = deferredAdditions;
+        final boolean wasCleaningDeferred = deferredCleaning;
+
+        // the additions must not be deferred again
+        deferredAdditions = null;
+        deferredCleaning = false;
+
+        int replayedCount = 0;
+
+        try {
+            for (; replayedCount < additions.size(); replayedCount++)
+                additions.get(replayedCount).run();
+
+        } finally {
+            deferredCleaning = wasCleaningDeferred;
+
+            // if an addition failed, the subsequent ones are held until the next replay
+            if (replayedCount + 1 < additions.size())
+                deferredAdditions = new ArrayList<>(additions.subList(replayedCount + 1, additions.size()));
+        }
+    }
+
+
+    /**
+     * Holds back elements that are to be added to a collection if lazy cleaning is enabled.
+     *
+     * @param elements the elements that are to be added
+     * @param addition a function that cleans and adds the elements
+     * @param <T> the type of the added elements
+     *
+     * @return true if the addition was deferred
+     */
+    private <T> boolean deferAddition(final Collection<T> elements, final Consumer<Collection<T>> addition)
+    {
+        if (!deferredCleaning || elements == null || elements.isEmpty())
+            return false;
+
+        if (deferredAdditions == null)
+            deferredAdditions = new ArrayList<>();
+
+        // copy the collection, because it may be changed before it is added
+        final List<T> heldElements = new ArrayList<>(elements);
+        deferredAdditions.add(() -> addition.accept(heldElements));
+
+        return true;
+    }
+
+
+    /**
+     * Removes all metadata and assigns a new source identifier, so that the document
+     * can be reused for another record instead of being garbage collected.
+     * The emptied collections are kept and refilled by the add-methods, retaining their
+     * allocated capacity. Therefore, collections that were retrieved via getters
+     * before the reset must no longer be used.
+     * Whether elements are cleaned lazily is not changed.
+     *
+     * @param sourceId a unique identifier of the source from which the next record is retrieved
+     */
+    public void reset(final String sourceId)
+    {
+        this.sourceId = sourceId;
+        this.deferredAdditions = null;
+
+        this.identifier = null;
+        this.publisher = null;
+        this.publicationYear = null;
+        this.resourceType = null;
+        this.language = null;
+        this.version = null;
+        this.repositoryIdentifier = null;
+        this.extensions = null;
+
+        if (recycled == null)
+            recycled = new RecycledCollections();
+
+        recycled.creators = recycle(creators, recycled.creators);
+        recycled.titles = recycle(titles, recycled.titles);
+        recycled.subjects = recycle(subjects, recycled.subjects);
+        recycled.contributors = recycle(contributors, recycled.contributors);
+        recycled.dates = recycle(dates, recycled.dates);
+        recycled.alternateIdentifiers = recycle(alternateIdentifiers, recycled.alternateIdentifiers);
+        recycled.relatedIdentifiers = recycle(relatedIdentifiers, recycled.relatedIdentifiers);
+        recycled.sizes = recycle(sizes, recycled.sizes);
+        recycled.formats = recycle(formats, recycled.formats);
+        recycled.rightsList = recycle(rightsList, recycled.rightsList);
+        recycled.descriptions = recycle(descriptions, recycled.descriptions);
+        recycled.geoLocations = recycle(geoLocations, recycled.geoLocations);
+        recycled.fundingReferences = recycle(fundingReferences, recycled.fundingReferences);
+        recycled.webLinks = recycle(webLinks, recycled.webLinks);
+        recycled.researchDataList = recycle(researchDataList, recycled.researchDataList);
+        recycled.researchDisciplines = recycle(researchDisciplines, recycled.researchDisciplines);
+
+        creators = null;
+        titles = null;
+        subjects = null;
+        contributors = null;
+        dates = null;
+        alternateIdentifiers = null;
+        relatedIdentifiers = null;
+        sizes = null;
+        formats = null;
+        rightsList = null;
+        descriptions = null;
+        geoLocations = null;
+        fundingReferences = null;
+        webLinks = null;
+        researchDataList = null;
+        researchDisciplines = null;
+    }
+
+
+    /**
+     * Empties a {@linkplain Collection} so that it can be reused by {@linkplain #reuse(Collection, Collection, Function)}.
+     *
+     * @param collection the collection that is to be recycled, or null
+     * @param recycledCollection the collection that was previously recycled for the same field, or null
+     * @param <C> the type of the collection
+     *
+     * @return the collection that is to be reused for the field
+     */
+    private static <C extends Collection<?>> C recycle(final C collection, final C recycledCollection)
+    {
+        if (collection == null)
+            return recycledCollection;
+
+        collection.clear();
+        return collection;
+    }
+
+
+    /**
+     * Retrieves the {@linkplain Collection} to which elements are to be added. If no collection exists yet,
+     * the empty collection that was recycled for the same field by {@linkplain #reset(String)} is reused.
+     * The recycled collection stays available, even if none of the added elements are valid.
+     *
+     * @param collection the current collection of a field, or null if it does not exist yet
+     * @param addedElements the elements that are to be added
+     * @param recycledCollection a function that retrieves the recycled collection of the field
+     * @param <C> the type of the collection
+     *
+     * @return the current collection, a recycled empty collection, or null if a new collection is to be created
+     */
+    private <C extends Collection<?>> C reuse(final C collection,
+                                              final Collection<?> addedElements,
+                                              final Function<RecycledCollections, C> recycledCollection)
+    {
+        if (collection != null || recycled == null || addedElements == null || addedElements.isEmpty())
+            return collection;
+
+        return recycledCollection.apply(recycled);
+    }
+
+
+    /**
+     * Retrieves unstructured information about the resource size, duration, or extent.
+     * <br>e.g. "15 pages", "6 MB", "15 seconds"
+     * @return unstructured information about the resource size, duration, or extent
+     */
+    public Set<String> getSizes()
+    {
+        cleanDeferredElements();
+        return sizes;
+    }
+
+
     /**
      * Changes the unstructured size information about the resource. <br>
      * e.g. "15 pages", "6 MB"
@@ -356,7 +476,21 @@ public class DataCiteJson implements IDocument
      */
     public void addSizes(final Collection<String> sizes)
     {
-        this.sizes = CollectionUtils.addToSet(this.sizes, sizes);
+        if (!deferAddition(sizes, this::addSizes))
+            this.sizes = CollectionUtils.addToSet(reuse(this.sizes, sizes, r -> r.sizes), sizes);
+    }
+
+
+    /**
+     * Retrieves the technical format of the resource.
+     * <br> e.g. PDF, XML, application/pdf, text/xml
+     *
+     * @return the technical format of the resource
+     */
+    public Set<String> getFormats()
+    {
+        cleanDeferredElements();
+        return formats;
     }
 
 
@@ -369,7 +503,29 @@ public class DataCiteJson implements IDocument
      */
     public void addFormats(final Collection<String> formats)
     {
-        this.formats = CollectionUtils.addToSet(this.formats, formats);
+        if (formats == null || deferAddition(formats, this::addFormats))
+            return;
+
+        // formats recur in most documents of a harvest
+        final List<String> internedFormats = new ArrayList<>(formats.size());
+
+        for (final String format : formats)
+            internedFormats.add(StringUtils.intern(format));
+
+        this.formats = CollectionUtils.addToSet(reuse(this.formats, internedFormats, r -> r.formats), internedFormats);
+    }
+
+
+    /**
+     * Retrieves the main researchers involved in producing the data, or the authors of the
+     * publication, in priority order.
+     * @return the main researchers involved in producing the data, or the authors of the
+     * publication, in priority order
+     */
+    public List<Creator> getCreators()
+    {
+        cleanDeferredElements();
+        return creators;
     }
 
 
@@ -382,7 +538,19 @@ public class DataCiteJson implements IDocument
      */
     public void addCreators(final Collection<Creator> creators)
     {
-        this.creators = CollectionUtils.addToList(this.creators, creators);
+        if (!deferAddition(creators, this::addCreators))
+            this.creators = CollectionUtils.addToList(reuse(this.creators, creators, r -> r.creators), creators);
+    }
+
+
+    /**
+     * Retrieves the names or title by which the resource is known.
+     * @return the names or title by which the resource is known
+     */
+    public Set<Title> getTitles()
+    {
+        cleanDeferredElements();
+        return titles;
     }
 
 
@@ -393,7 +561,19 @@ public class DataCiteJson implements IDocument
      */
     public void addTitles(final Collection<Title> titles)
     {
-        this.titles = CollectionUtils.addToSet(this.titles, titles);
+        if (!deferAddition(titles, this::addTitles))
+            this.titles = CollectionUtils.addToSet(reuse(this.titles, titles, r -> r.titles), titles);
+    }
+
+
+    /**
+     * Retrieves all additional information that does not fit in any of the other categories.
+     * @return additional information that does not fit in any of the other categories
+     */
+    public Set<Description> getDescriptions()
+    {
+        cleanDeferredElements();
+        return descriptions;
     }
 
 
@@ -405,7 +585,20 @@ public class DataCiteJson implements IDocument
      */
     public void addDescriptions(final Collection<Description> descriptions)
     {
-        this.descriptions = CollectionUtils.addToSet(this.descriptions, descriptions);
+        if (!deferAddition(descriptions, this::addDescriptions))
+            this.descriptions = CollectionUtils.addToSet(reuse(this.descriptions, descriptions, r -> r.descriptions), descriptions);
+    }
+
+
+    /**
+     * Retrieves subjects, keywords, classification codes, or key phrases describing the
+     * resource.
+     * @return the subjects, keywords, classification codes, or key phrases
+     */
+    public Set<Subject> getSubjects()
+    {
+        cleanDeferredElements();
+        return subjects;
     }
 
 
@@ -418,7 +611,20 @@ public class DataCiteJson implements IDocument
      */
     public void addSubjects(final Collection<Subject> subjects)
     {
-        this.subjects = CollectionUtils.addToSet(this.subjects, subjects);
+        if (!deferAddition(subjects, this::addSubjects))
+            this.subjects = CollectionUtils.addToSet(reuse(this.subjects, subjects, r -> r.subjects), subjects);
+    }
+
+
+    /**
+     * Retrieves institutions or persons responsible for collecting, managing,
+     * distributing, or otherwise contributing to the development of the resource.
+     * @return institutions or persons
+     */
+    public Set<Contributor> getContributors()
+    {
+        cleanDeferredElements();
+        return contributors;
     }
 
 
@@ -431,7 +637,19 @@ public class DataCiteJson implements IDocument
      */
     public void addContributors(final Collection<Contributor> contributors)
     {
-        this.contributors = CollectionUtils.addToSet(this.contributors, contributors);
+        if (!deferAddition(contributors, this::addContributors))
+            this.contributors = CollectionUtils.addToSet(reuse(this.contributors, contributors, r -> r.contributors), contributors);
+    }
+
+
+    /**
+     * Retrieves the different dates relevant to the work.
+     * @return the different dates relevant to the work
+     */
+    public Set<AbstractDate> getDates()
+    {
+        cleanDeferredElements();
+        return dates;
     }
 
 
@@ -442,7 +660,21 @@ public class DataCiteJson implements IDocument
      */
     public void addDates(final Collection<AbstractDate> dates)
     {
-        this.dates = CollectionUtils.addToSet(this.dates, dates);
+        if (!deferAddition(dates, this::addDates))
+            this.dates = CollectionUtils.addToSet(reuse(this.dates, dates, r -> r.dates), dates);
+    }
+
+
+    /**
+     * Retrieves spatial regions or named places where the data was gathered or about which
+     * the data is focused.
+     * @return the spatial regions or named places where the data was gathered or about which
+     * the data is focused
+     */
+    public Set<GeoLocation> getGeoLocations()
+    {
+        cleanDeferredElements();
+        return geoLocations;
     }
 
 
@@ -454,7 +686,35 @@ public class DataCiteJson implements IDocument
      */
     public void addGeoLocations(final Collection<GeoLocation> geoLocations)
     {
-        this.geoLocations = CollectionUtils.addToSet(this.geoLocations, geoLocations);
+        if (!deferAddition(geoLocations, this::addGeoLocations))
+            this.geoLocations = CollectionUtils.addToSet(reuse(this.geoLocations, geoLocations, r -> r.geoLocations), geoLocations);
+    }
+
+
+    /**
+     * Changes the spatial regions or named places where the data was gathered or
+     * about which the data is focused. The geometries of the {@linkplain GeoLocation}s
+     * are cleaned concurrently by a specified {@linkplain Executor}.
+     *
+     * @param geoLocations spatial regions and/or named places
+     * @param executor the {@linkplain Executor} that cleans the {@linkplain GeoLocation}s
+     */
+    public void addGeoLocations(final Collection<GeoLocation> geoLocations, final Executor executor)
+    {
+        if (!deferAddition(geoLocations, (final Collection<GeoLocation> deferred) -> addGeoLocations(deferred, executor)))
+            this.geoLocations = CollectionUtils.addToSet(reuse(this.geoLocations, geoLocations, r -> r.geoLocations), geoLocations, executor);
+    }
+
+
+    /**
+     * Retrieves identifiers of related resources.
+     * These must be globally unique identifiers.
+     * @return the identifiers of related resources
+     */
+    public Set<RelatedIdentifier> getRelatedIdentifiers()
+    {
+        cleanDeferredElements();
+        return relatedIdentifiers;
     }
 
 
@@ -466,7 +726,23 @@ public class DataCiteJson implements IDocument
      */
     public void addRelatedIdentifiers(final Collection<RelatedIdentifier> relatedIdentifiers)
     {
-        this.relatedIdentifiers = CollectionUtils.addToSet(this.relatedIdentifiers, relatedIdentifiers);
+        if (!deferAddition(relatedIdentifiers, this::addRelatedIdentifiers))
+            this.relatedIdentifiers = CollectionUtils.addToSet(reuse(this.relatedIdentifiers, relatedIdentifiers, r -> r.relatedIdentifiers), relatedIdentifiers);
+    }
+
+
+    /**
+     * Retrieves the identifiers other than the primary Identifier applied to the
+     * resource being registered.
+     * AlternateIdentifier should be used for another identifier of the same
+     * instance (same location, same file).
+     * @return the identifiers other than the primary Identifier applied to the
+     * resource being registered
+     */
+    public Set<AlternateIdentifier> getAlternateIdentifiers()
+    {
+        cleanDeferredElements();
+        return alternateIdentifiers;
     }
 
 
@@ -478,7 +754,19 @@ public class DataCiteJson implements IDocument
      */
     public void addAlternateIdentifiers(final Collection<AlternateIdentifier> alternateIdentifiers)
     {
-        this.alternateIdentifiers = CollectionUtils.addToSet(this.alternateIdentifiers, alternateIdentifiers);
+        if (!deferAddition(alternateIdentifiers, this::addAlternateIdentifiers))
+            this.alternateIdentifiers = CollectionUtils.addToSet(reuse(this.alternateIdentifiers, alternateIdentifiers, r -> r.alternateIdentifiers), alternateIdentifiers);
+    }
+
+
+    /**
+     * Retrieves rights information for this resource.
+     * @return any rights information for this resource
+     */
+    public Set<Rights> getRightsList()
+    {
+        cleanDeferredElements();
+        return rightsList;
     }
 
 
@@ -489,7 +777,20 @@ public class DataCiteJson implements IDocument
      */
     public void addRights(final Collection<Rights> rightsList)
     {
-        this.rightsList = CollectionUtils.addToSet(this.rightsList, rightsList);
+        if (!deferAddition(rightsList, this::addRights))
+            this.rightsList = CollectionUtils.addToSet(reuse(this.rightsList, rightsList, r -> r.rightsList), rightsList);
+    }
+
+
+    /**
+     * Retrieves information about financial support (funding) for the resource being
+     * registered.
+     * @return information about funding for the resource being registered
+     */
+    public Set<FundingReference> getFundingReferences()
+    {
+        cleanDeferredElements();
+        return fundingReferences;
     }
 
 
@@ -501,7 +802,19 @@ public class DataCiteJson implements IDocument
      */
     public void addFundingReferences(final Collection<FundingReference> fundingReferences)
     {
-        this.fundingReferences = CollectionUtils.addToSet(this.fundingReferences, fundingReferences);
+        if (!deferAddition(fundingReferences, this::addFundingReferences))
+            this.fundingReferences = CollectionUtils.addToSet(reuse(this.fundingReferences, fundingReferences, r -> r.fundingReferences), fundingReferences);
+    }
+
+
+    /**
+     * Retrieves weblinks related to the resource.
+     * @return weblinks related to the resource
+     */
+    public Set<WebLink> getWebLinks()
+    {
+        cleanDeferredElements();
+        return webLinks;
     }
 
 
@@ -512,7 +825,19 @@ public class DataCiteJson implements IDocument
      */
     public void addWebLinks(final Collection<WebLink> webLinks)
     {
-        this.webLinks = CollectionUtils.addToSet(this.webLinks, webLinks);
+        if (!deferAddition(webLinks, this::addWebLinks))
+            this.webLinks = CollectionUtils.addToSet(reuse(this.webLinks, webLinks, r -> r.webLinks), webLinks);
+    }
+
+
+    /**
+     * Retrieves references to downloadable research data.
+     * @return references to downloadable research data
+     */
+    public Set<ResearchData> getResearchDataList()
+    {
+        cleanDeferredElements();
+        return researchDataList;
     }
 
 
@@ -523,7 +848,21 @@ public class DataCiteJson implements IDocument
      */
     public void addResearchData(final Collection<ResearchData> researchDataList)
     {
-        this.researchDataList = CollectionUtils.addToSet(this.researchDataList, researchDataList);
+        if (!deferAddition(researchDataList, this::addResearchData))
+            this.researchDataList = CollectionUtils.addToSet(reuse(this.researchDataList, researchDataList, r -> r.researchDataList), researchDataList);
+    }
+
+
+    /**
+     * Retrieves a set of human readable names of the research disciplines,
+     * i.e. the topics or domains that this document covers.
+     * <br>e.g. Computer Science, Geography
+     * @return the research disciplines to which the document belongs
+     */
+    public Set<AbstractResearch> getResearchDisciplines()
+    {
+        cleanDeferredElements();
+        return researchDisciplines;
     }
 
 
@@ -536,7 +875,8 @@ public class DataCiteJson implements IDocument
      */
     public void addResearchDisciplines(final Collection<AbstractResearch> researchDisciplines)
     {
-        this.researchDisciplines = CollectionUtils.addToSet(this.researchDisciplines, researchDisciplines);
+        if (!deferAddition(researchDisciplines, this::addResearchDisciplines))
+            this.researchDisciplines = CollectionUtils.addToSet(reuse(this.researchDisciplines, researchDisciplines, r -> r.researchDisciplines), researchDisciplines);
     }
 
 
@@ -577,7 +917,7 @@ public class DataCiteJson implements IDocument
      */
     public void setPublisher(final Publisher publisher)
     {
-        this.publisher = publisher;
+        this.publisher = CollectionUtils.canonicalize(publisher);
     }
 
 
@@ -593,7 +933,57 @@ public class DataCiteJson implements IDocument
     @Deprecated
     public void setPublisher(final String publisherName)
     {
-        this.publisher = new Publisher(publisherName);
+        setPublisher(new Publisher(publisherName));
+    }
+
+
+    /**
+     * Sets the primary language of the resource.
+     * <br>e.g. de, en-US
+     * <br>Allowed values are taken from IETF BCP 47, ISO 639-1 language codes.
+     *
+     * @param language the primary language of the resource
+     */
+    public void setLanguage(final String language)
+    {
+        this.language = StringUtils.intern(language);
+    }
+
+
+    /**
+     * Sets the description of the resource.
+     *
+     * @param resourceType the description of the resource
+     */
+    public void setResourceType(final ResourceType resourceType)
+    {
+        this.resourceType = CollectionUtils.canonicalize(resourceType);
+    }
+
+
+    /**
+     * Calculates a fingerprint of the JSON representation of this document, without
+     * building the JSON. The fingerprint does not depend on the order of elements
+     * within sets, and can be stored for detecting changes in subsequent harvests.
+     *
+     * @return a 64 bit fingerprint of the content of this document
+     */
+    public long calculateFingerprint()
+    {
+        return FINGERPRINTER.getFingerprint(this);
+    }
+
+
+    /**
+     * Checks if the content of this document matches a previously calculated fingerprint.
+     *
+     * @param fingerprint a fingerprint that was calculated via {@linkplain #calculateFingerprint()}
+     *
+     * @return true if the document content most likely did not change since the fingerprint was calculated
+     */
+    public boolean matchesFingerprint(final long fingerprint)
+    {
+        return calculateFingerprint() == fingerprint;
     }
 
 
@@ -602,4 +992,39 @@ public class DataCiteJson implements IDocument
     {
         return GSON.toJson(this);
     }
+
+
+    @Override
+    public void toJson(final Appendable out) throws IOException
+    {
+        try {
+            GSON.toJson(this, getClass(), out);
+        } catch (final JsonIOException e) {
+            throw new IOException(e.getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * This class keeps the emptied collections of a reset document,
+     * so that each field can reuse its own collection for the next document.
+     */
+    private static final class RecycledCollections
+    {
+        private List<Creator> creators;
+        private Set<Title> titles;
+        private Set<Subject> subjects;
+        private Set<Contributor> contributors;
+        private Set<AbstractDate> dates;
+        private Set<AlternateIdentifier> alternateIdentifiers;
+        private Set<RelatedIdentifier> relatedIdentifiers;
+        private Set<String> sizes;
+        private Set<String> formats;
+        private Set<Rights> rightsList;
+        private Set<Description> descriptions;
+        private Set<GeoLocation> geoLocations;
+        private Set<FundingReference> fundingReferences;
+        private Set<WebLink> webLinks;
+        private Set<ResearchData> researchDataList;
+        private Set<AbstractResearch> researchDisciplines;
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import de.gerdiproject.harvest.constants.CacheConstants;
+import lombok.Getter;
+
+/**
+ * This class keeps a bounded number of {@linkplain DataCiteJson} documents that are no longer needed,
+ * in order to reuse them for subsequent records. Documents are emptied via
+ * {@linkplain DataCiteJson#reset(String)}, which retains their allocated collections.
+ * This is useful for pipelines that serialize each document immediately after creating it.
+ * All methods are thread-safe.
+ *
+ * @author Robin Weiss
+ */
+public class DataCiteJsonPool
+{
+    private final Deque<DataCiteJson> idleDocuments;
+
+    /**
+     * -- GETTER --
+     * Retrieves the maximum number of documents that are kept for reuse.
+     * @return the maximum number of documents that are kept for reuse
+     */
+    @Getter
+    private final int capacity;
+
+
+    /**
+     * Constructor that creates an empty pool.
+     *
+     * @param capacity the maximum number of documents that are kept for reuse
+     *
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public DataCiteJsonPool(final int capacity)
+    {
+        if (capacity <= 0)
+            throw new IllegalArgumentException(CacheConstants.INVALID_POOL_CAPACITY_ERROR);
+
+        this.capacity = capacity;
+        this.idleDocuments = new ArrayDeque<>();
+    }
+
+
+    /**
+     * Retrieves an empty document, reusing a previously released one if possible.
+     *
+     * @param sourceId a unique identifier of the source from which the document is retrieved
+     *
+     * @return an empty {@linkplain DataCiteJson} with the specified source identifier
+     */
+    public DataCiteJson acquire(final String sourceId)
+    {
+        final DataCiteJson document;
+
+        synchronized (idleDocuments) {
+            document = idleDocuments.poll();
+        }
+
+        if (document == null)
+            return new DataCiteJson(sourceId);
+
+        document.reset(sourceId);
+        return document;
+    }
+
+
+    /**
+     * Returns a document that is no longer needed to the pool. The document is emptied
+     * right away, so that its elements can be garbage collected.
+     * If the pool is full, the document is discarded.
+     * Released documents must no longer be used by the caller.
+     *
+     * @param document the document that is no longer needed
+     */
+    public void release(final DataCiteJson document)
+    {
+        if (document == null)
+            return;
+
+        document.reset(document.getSourceId());
+
+        synchronized (idleDocuments) {
+            if (idleDocuments.size() < capacity)
+                idleDocuments.push(document);
+        }
+    }
+
+
+    /**
+     * Retrieves the number of documents that are currently kept for reuse.
+     *
+     * @return the number of documents that are currently kept for reuse
+     */
+    public int getIdleCount()
+    {
+        synchronized (idleDocuments) {
+            return idleDocuments.size();
+        }
+    }
+}
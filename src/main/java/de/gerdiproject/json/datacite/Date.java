@@ -72,6 +72,19 @@ public class Date extends AbstractDate
     }
 
 
+    /**
+     * Simple constructor that requires all mandatory fields.
+     *
+     * @param date an {@linkplain Instant} that represents the date
+     * @param type the event that is marked by this date
+     */
+    public Date(final Instant date, final DateType type)
+    {
+        super(type);
+        this.value = date;
+    }
+
+
     /**
      * Returns the date as ISO-8601-compliant String.
      * <br>e.g. 1994-11-05T13:15:30Z
@@ -114,6 +127,17 @@ public class Date extends AbstractDate
     }
 
 
+    /**
+     * Retrieves the {@linkplain Instant} at which the date takes place.
+     *
+     * @return the {@linkplain Instant} at which the date takes place, or null if the date is invalid
+     */
+    public Instant getDate()
+    {
+        return value;
+    }
+
+
     /**
      * Changes the date value using the amount of milliseconds that passed
      * from 01/01/1970 00:00:00 until this date.
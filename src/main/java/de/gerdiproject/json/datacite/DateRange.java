@@ -24,6 +24,8 @@ import de.gerdiproject.json.datacite.abstr.AbstractDate;
 import de.gerdiproject.json.datacite.constants.DataCiteDateConstants;
 import de.gerdiproject.json.datacite.enums.DateType;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -44,6 +46,7 @@ public class DateRange extends AbstractDate
      * Sets the {@linkplain Instant} at which the date range starts.
      * @param since the {@linkplain Instant} at which the date range starts
      */
+    @Getter @Setter
     private Instant since;
 
     /**
@@ -55,6 +58,7 @@ public class DateRange extends AbstractDate
      * Sets the {@linkplain Instant} at which the date range ends.
      * @param until the {@linkplain Instant} at which the date range ends
      */
+    @Getter @Setter
     private Instant until;
 
 
@@ -86,6 +90,21 @@ public class DateRange extends AbstractDate
     }
 
 
+    /**
+     * Simple constructor that requires all mandatory fields.
+     *
+     * @param since the {@linkplain Instant} at which the date range starts, or null if there is no beginning
+     * @param until the {@linkplain Instant} at which the date range ends, or null if there is no end
+     * @param type the event that is marked by this date range
+     */
+    public DateRange(final Instant since, final Instant until, final DateType type)
+    {
+        super(type);
+        this.since = since;
+        this.until = until;
+    }
+
+
     /**
      * Simple constructor that requires all mandatory fields.
      *
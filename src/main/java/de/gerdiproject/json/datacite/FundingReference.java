@@ -15,11 +15,14 @@
  */
 package de.gerdiproject.json.datacite;
 
+import de.gerdiproject.harvest.utils.CollectionUtils;
 import de.gerdiproject.json.datacite.nested.AwardNumber;
 import de.gerdiproject.json.datacite.nested.FunderIdentifier;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 /**
  * Information about financial support (funding) for the resource being registered.
@@ -51,12 +54,8 @@ public class FundingReference
      * Retrieves the unique identifier of the funding entity.
      * <br>e.g. http://dx.doi.org/10.13039/100000936
      * @return the unique identifier of the funding entity.
-     *
-     * -- SETTER --
-     * Sets the unique identifier of the funding entity.
-     * <br>e.g. http://dx.doi.org/10.13039/100000936
-     * @param funderIdentifier a unique identifier of the funding entity.
      */
+    @Setter(AccessLevel.NONE)
     private FunderIdentifier funderIdentifier;
 
 
@@ -86,4 +85,16 @@ public class FundingReference
      * @param awardTitle a human readable title of the award
      */
     private String awardTitle;
+
+
+    /**
+     * Sets the unique identifier of the funding entity.
+     * <br>e.g. http://dx.doi.org/10.13039/100000936
+     *
+     * @param funderIdentifier a unique identifier of the funding entity.
+     */
+    public void setFunderIdentifier(final FunderIdentifier funderIdentifier)
+    {
+        this.funderIdentifier = CollectionUtils.canonicalize(funderIdentifier);
+    }
 }
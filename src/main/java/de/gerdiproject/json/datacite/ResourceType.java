@@ -15,8 +15,13 @@
  */
 package de.gerdiproject.json.datacite;
 
+import de.gerdiproject.harvest.IFlyweight;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
 import de.gerdiproject.json.datacite.enums.ResourceTypeGeneral;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * This object represents a description of the resource.
@@ -25,7 +30,7 @@ import lombok.Data;
  * @author Mathis Neumann, Robin Weiss
  */
 @Data
-public class ResourceType
+public class ResourceType implements IFlyweight
 {
     /**
      * -- GETTER --
@@ -51,4 +56,20 @@ public class ResourceType
      * @param resourceTypeGeneral the general type of a resource
      */
     private final ResourceTypeGeneral resourceTypeGeneral;
+
+
+    /**
+     * -- GETTER --
+     * Checks if the resource type is shared by multiple documents and cannot be modified.
+     * @return true if the resource type is shared and cannot be modified
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean shared;
+
+
+    @Override
+    public void share()
+    {
+        this.shared = true;
+    }
 }
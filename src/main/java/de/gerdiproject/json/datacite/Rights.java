@@ -18,11 +18,16 @@ package de.gerdiproject.json.datacite;
 import com.google.gson.annotations.SerializedName;
 
 import de.gerdiproject.harvest.ICleanable;
+import de.gerdiproject.harvest.IFlyweight;
 import de.gerdiproject.harvest.utils.StringUtils;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Any rights information for this resource.
@@ -36,20 +41,16 @@ import lombok.RequiredArgsConstructor;
  *
  */
 @Data @RequiredArgsConstructor @AllArgsConstructor
-public class Rights implements ICleanable
+public class Rights implements ICleanable, IFlyweight
 {
     /**
      * -- GETTER --
      * Retrieves the free text that describes the rights.
      * <br>e.g. Creative Commons, Attribution 3.0 Germany
      * @return free text that describes the rights
-     *
-     * -- SETTER --
-     * Sets the free text that describes the rights.
-     * <br>e.g. Creative Commons, Attribution 3.0 Germany
-     * @param value free text that describes the rights
      */
     @NonNull
+    @Setter(AccessLevel.NONE)
     private String value;
 
 
@@ -58,12 +59,8 @@ public class Rights implements ICleanable
      * Retrieves the IETF language tag of the text.
      * <br>e.g. de, en-US
      * @return the IETF language tag of the text
-     *
-     * -- SETTER --
-     * Sets the IETF language tag of the text.
-     * <br>e.g. de, en-US
-     * @param lang the IETF language tag of the text
      */
+    @Setter(AccessLevel.NONE)
     private String lang;
 
 
@@ -72,13 +69,9 @@ public class Rights implements ICleanable
      * Retrieves the URI of the license.
      * <br>e.g. http://creativecommons.org/licenses/by/3.0/de/deed.en
      * @return the URI of the license.
-     *
-     * -- SETTER --
-     * Sets the URI of the license.
-     * <br>e.g. http://creativecommons.org/licenses/by/3.0/de/deed.en
-     * @param uri the URI of the license.
      */
     @SerializedName("rightsURI")
+    @Setter(AccessLevel.NONE)
     private String uri;
 
 
@@ -89,15 +82,9 @@ public class Rights implements ICleanable
      * <br><br>
      * It’s suggested to use the identifiers from the SPDX licence list (https://spdx.org/licenses/).
      * @return a short, standardized version of the license name
-     *
-     * -- SETTER --
-     * Sets the short, standardized version of the license name.
-     * <br>e.g. CC-BY-3.0
-     * <br><br>
-     * It’s suggested to use the identifiers from the SPDX licence list (https://spdx.org/licenses/).
-     * @param identifier short, standardized version of the license name
      */
     @SerializedName("rightsIdentifier")
+    @Setter(AccessLevel.NONE)
     private String identifier;
 
 
@@ -106,13 +93,9 @@ public class Rights implements ICleanable
      * Retrieves the name of the scheme.
      * <br>e.g. SPDX
      * @return the name of the scheme
-     *
-     * -- SETTER --
-     * Sets the name of the scheme.
-     * <br>e.g. SPDX
-     * @param identifierScheme the name of the scheme
      */
     @SerializedName("rightsIdentifierScheme")
+    @Setter(AccessLevel.NONE)
     private String identifierScheme;
 
 
@@ -121,15 +104,20 @@ public class Rights implements ICleanable
      * Retrieves the URI of the rightsIdentifierScheme.
      * <br>e.g. https://spdx.org/licenses/
      * @return the URI of the rightsIdentifierScheme
-     *
-     * -- SETTER --
-     * Sets the URI of the rightsIdentifierScheme.
-     * <br>e.g. https://spdx.org/licenses/
-     * @param schemeURI the URI of the rightsIdentifierScheme
      */
+    @Setter(AccessLevel.NONE)
     private String schemeURI;
 
 
+    /**
+     * -- GETTER --
+     * Checks if the rights statement is shared by multiple documents and cannot be modified.
+     * @return true if the rights statement is shared and cannot be modified
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean shared;
+
+
     /**
      * Constructor that allows to set the language.
      *
@@ -146,7 +134,97 @@ public class Rights implements ICleanable
     @Override
     public boolean clean()
     {
-        setValue(StringUtils.clean(value));
+        // shared instances were cleaned before they were shared
+        if (shared)
+            return true;
+
+        setValue(StringUtils.intern(StringUtils.clean(value)));
+        lang = StringUtils.intern(lang);
+        uri = StringUtils.intern(uri);
+        identifier = StringUtils.intern(identifier);
+        identifierScheme = StringUtils.intern(identifierScheme);
+        schemeURI = StringUtils.intern(schemeURI);
         return true;
     }
+
+
+    /**
+     * Sets the free text that describes the rights.
+     * <br>e.g. Creative Commons, Attribution 3.0 Germany
+     * @param value free text that describes the rights
+     */
+    public void setValue(@NonNull final String value)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.value = value;
+    }
+
+
+    /**
+     * Sets the IETF language tag of the text.
+     * <br>e.g. de, en-US
+     * @param lang the IETF language tag of the text
+     */
+    public void setLang(final String lang)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.lang = lang;
+    }
+
+
+    /**
+     * Sets the URI of the license.
+     * <br>e.g. http://creativecommons.org/licenses/by/3.0/de/deed.en
+     * @param uri the URI of the license.
+     */
+    public void setUri(final String uri)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.uri = uri;
+    }
+
+
+    /**
+     * Sets the short, standardized version of the license name.
+     * <br>e.g. CC-BY-3.0
+     * <br><br>
+     * It’s suggested to use the identifiers from the SPDX licence list (https://spdx.org/licenses/).
+     * @param identifier short, standardized version of the license name
+     */
+    public void setIdentifier(final String identifier)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.identifier = identifier;
+    }
+
+
+    /**
+     * Sets the name of the scheme.
+     * <br>e.g. SPDX
+     * @param identifierScheme the name of the scheme
+     */
+    public void setIdentifierScheme(final String identifierScheme)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.identifierScheme = identifierScheme;
+    }
+
+
+    /**
+     * Sets the URI of the rightsIdentifierScheme.
+     * <br>e.g. https://spdx.org/licenses/
+     * @param schemeURI the URI of the rightsIdentifierScheme
+     */
+    public void setSchemeURI(final String schemeURI)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.schemeURI = schemeURI;
+    }
+
+
+    @Override
+    public void share()
+    {
+        this.shared = true;
+    }
 }
@@ -118,7 +118,11 @@ public class Subject implements ICleanable
     @Override
     public boolean clean()
     {
-        setValue(StringUtils.clean(value));
+        setValue(StringUtils.intern(StringUtils.clean(value)));
+        lang = StringUtils.intern(lang);
+        scheme = StringUtils.intern(scheme);
+        schemeURI = StringUtils.intern(schemeURI);
+        valueURI = StringUtils.intern(valueURI);
         return true;
     }
 }
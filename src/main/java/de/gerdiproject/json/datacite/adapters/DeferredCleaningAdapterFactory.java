@@ -0,0 +1,65 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.adapters;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.json.datacite.DataCiteJson;
+
+/**
+ * This factory creates adapters that clean lazily added elements of
+ * {@linkplain DataCiteJson} documents before the documents are serialized.
+ * The (de-)serialization itself is delegated to the next matching adapter.
+ *
+ * @author Robin Weiss
+ */
+public class DeferredCleaningAdapterFactory implements TypeAdapterFactory
+{
+    @Override
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type)
+    {
+        if (!DataCiteJson.class.isAssignableFrom(type.getRawType()))
+            return null;
+
+        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(final JsonWriter out, final T value) throws IOException
+            {
+                if (value != null)
+                    ((DataCiteJson) value).cleanDeferredElements();
+
+                delegate.write(out, value);
+            }
+
+
+            @Override
+            public T read(final JsonReader in) throws IOException
+            {
+                return delegate.read(in);
+            }
+        };
+    }
+}
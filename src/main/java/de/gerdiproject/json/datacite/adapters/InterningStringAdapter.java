@@ -0,0 +1,66 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.adapters;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.harvest.constants.CacheConstants;
+import de.gerdiproject.harvest.utils.StringUtils;
+
+/**
+ * This adapter (de-)serializes {@linkplain String}s like the default adapter of Gson,
+ * but replaces short deserialized Strings by canonical instances via
+ * {@linkplain StringUtils#intern(String)}. This way, recurring values such as publisher names,
+ * affiliations, schemes, URIs, and language codes share a single instance across documents.
+ * Long Strings such as descriptions are rarely recurring and therefore not interned.
+ *
+ * @author Robin Weiss
+ */
+public class InterningStringAdapter extends TypeAdapter<String>
+{
+    @Override
+    public void write(final JsonWriter out, final String value) throws IOException
+    {
+        out.value(value);
+    }
+
+
+    @Override
+    public String read(final JsonReader in) throws IOException
+    {
+        final JsonToken token = in.peek();
+
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        // booleans are converted to Strings, like the default adapter does
+        final String value = token == JsonToken.BOOLEAN
+                             ? Boolean.toString(in.nextBoolean())
+                             : in.nextString();
+
+        return value.length() <= CacheConstants.MAX_INTERNED_STRING_LENGTH
+               ? StringUtils.intern(value)
+               : value;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.adapters;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.json.datacite.extension.DataCiteExtensions;
+import de.gerdiproject.json.datacite.extension.IDataCiteExtension;
+import de.gerdiproject.json.datacite.extension.soep.SoepDataCiteExtension;
+import de.gerdiproject.json.datacite.extension.soep.SoepVariable;
+
+/**
+ * This factory creates adapters that define the streaming (de-)serialization behavior
+ * of {@linkplain DataCiteExtensions}.
+ * The resulting JSON is equal to that of the {@linkplain DataCiteExtensionsAdapter}.
+ *
+ * @author Robin Weiss
+ */
+public class StreamingDataCiteExtensionsAdapterFactory implements TypeAdapterFactory
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingDataCiteExtensionsAdapterFactory.class);
+
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type)
+    {
+        if (type.getRawType() != DataCiteExtensions.class)
+            return null;
+
+        return (TypeAdapter<T>) new ExtensionsAdapter(gson);
+    }
+
+
+    /**
+     * The adapter that is created by the factory.
+     *
+     * @author Robin Weiss
+     */
+    private static class ExtensionsAdapter extends TypeAdapter<DataCiteExtensions>
+    {
+        private final Gson gson;
+
+
+        /**
+         * Constructor that requires the {@linkplain Gson} instance which is used
+         * for (de-)serializing the nested {@linkplain IDataCiteExtension}s.
+         *
+         * @param gson the {@linkplain Gson} instance that created this adapter
+         */
+        ExtensionsAdapter(final Gson gson)
+        {
+            super();
+            this.gson = gson;
+        }
+
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void write(final JsonWriter out, final DataCiteExtensions src) throws IOException
+        {
+            final Map<String, IDataCiteExtension> extensions = src == null ? null : src.getExtensions();
+
+            if (extensions == null || !hasNonEmptyExtensions(extensions)) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+
+            for (final Entry<String, IDataCiteExtension> extension : extensions.entrySet()) {
+                // do not add empty extensions
+                if (!isEmptyExtension(extension.getKey(), extension.getValue())) {
+                    final IDataCiteExtension ex = extension.getValue();
+                    final TypeAdapter<IDataCiteExtension> exAdapter =
+                        (TypeAdapter<IDataCiteExtension>) gson.getAdapter(ex.getClass());
+
+                    out.name(extension.getKey());
+                    exAdapter.write(out, ex);
+                }
+            }
+
+            out.endObject();
+        }
+
+
+        @Override
+        public DataCiteExtensions read(final JsonReader in) throws IOException
+        {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            final DataCiteExtensions deserializedObject = new DataCiteExtensions();
+
+            // parse each extension individually
+            in.beginObject();
+
+            while (in.hasNext()) {
+                final IDataCiteExtension ex = readExtension(in.nextName(), in);
+
+                if (ex != null)
+                    deserializedObject.add(ex);
+            }
+
+            in.endObject();
+
+            // do not return the object if it contains no extensions
+            return deserializedObject.getExtensions() == null ? null : deserializedObject;
+        }
+
+
+        /**
+         * Reads an {@link IDataCiteExtension} implementation from a {@linkplain JsonReader}.
+         *
+         * @param key the key of the extension
+         * @param in the {@linkplain JsonReader} that is positioned in front of the extension value
+         *
+         * @return a deserialized {@link IDataCiteExtension}, or null if it is unknown or empty
+         *
+         * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+         */
+        private IDataCiteExtension readExtension(final String key, final JsonReader in) throws IOException
+        {
+            final IDataCiteExtension extension;
+
+            switch (key) { // NOPMD better maintainability as more cases will be added in the future
+                case SoepDataCiteExtension.KEY:
+                    extension = gson.getAdapter(SoepDataCiteExtension.class).read(in);
+                    break;
+
+                default:
+                    LOGGER.error("Unknown GeRDI extension: " + key); // NOPMD this case is erroneous and must be logged
+                    in.skipValue();
+                    extension = null;
+                    break;
+            }
+
+            return extension;
+        }
+
+
+        /**
+         * Checks if at least one of the specified extensions is not empty.
+         * This check is required, because a streamed JSON object cannot be omitted
+         * after it was started.
+         *
+         * @param extensions a map of extensions
+         *
+         * @return true if at least one extension would be serialized to a non-null value
+         */
+        private static boolean hasNonEmptyExtensions(final Map<String, IDataCiteExtension> extensions)
+        {
+            for (final Entry<String, IDataCiteExtension> extension : extensions.entrySet()) {
+                if (!isEmptyExtension(extension.getKey(), extension.getValue()))
+                    return true;
+            }
+
+            return false;
+        }
+
+
+        /**
+         * Checks if an {@link IDataCiteExtension} would be serialized to null.
+         *
+         * @param key the key of the extension
+         * @param extension the extension that is to be checked
+         *
+         * @return true if the extension is null or contains no data
+         */
+        private static boolean isEmptyExtension(final String key, final IDataCiteExtension extension)
+        {
+            final boolean isEmpty;
+
+            if (extension == null)
+                isEmpty = true;
+            else {
+                switch (key) { // NOPMD better maintainability as more cases will be added in the future
+                    case SoepDataCiteExtension.KEY:
+                        final Set<SoepVariable> variables = ((SoepDataCiteExtension) extension).getDatasetVariables();
+                        isEmpty = variables == null || variables.isEmpty();
+                        break;
+
+                    default:
+                        isEmpty = false;
+                        break;
+                }
+            }
+
+            return isEmpty;
+        }
+    }
+}
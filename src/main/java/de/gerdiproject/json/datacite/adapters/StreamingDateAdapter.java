@@ -0,0 +1,117 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.adapters;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.json.datacite.Date;
+import de.gerdiproject.json.datacite.DateRange;
+import de.gerdiproject.json.datacite.abstr.AbstractDate;
+import de.gerdiproject.json.datacite.constants.DataCiteDateConstants;
+import de.gerdiproject.json.datacite.enums.DateType;
+
+/**
+ * This adapter defines the streaming (de-)serialization behavior of {@linkplain AbstractDate} objects.
+ * The resulting JSON is equal to that of the {@linkplain DateAdapter}.
+ *
+ * @author Robin Weiss
+ */
+public class StreamingDateAdapter extends TypeAdapter<AbstractDate>
+{
+    @Override
+    public void write(final JsonWriter out, final AbstractDate src) throws IOException
+    {
+        if (src == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+
+        // add date or date-range
+        out.name(DataCiteDateConstants.VALUE_JSON).value(src.getValue());
+
+        // add dateType
+        final DateType dateType = src.getType();
+
+        if (dateType != null)
+            out.name(DataCiteDateConstants.DATE_TYPE_JSON).value(dateType.toString());
+
+        // optionally add dateInformation
+        final String dateInfo = src.getInformation();
+
+        if (dateInfo != null)
+            out.name(DataCiteDateConstants.DATE_INFO_JSON).value(dateInfo);
+
+        out.endObject();
+    }
+
+
+    @Override
+    public AbstractDate read(final JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String value = null;
+        DateType dateType = null;
+        String dateInfo = null;
+
+        in.beginObject();
+
+        while (in.hasNext()) {
+            final String fieldName = in.nextName();
+
+            if (in.peek() == JsonToken.NULL)
+                in.nextNull();
+
+            else if (fieldName.equals(DataCiteDateConstants.VALUE_JSON))
+                value = in.nextString();
+
+            else if (fieldName.equals(DataCiteDateConstants.DATE_TYPE_JSON))
+                dateType = DateType.valueOf(in.nextString());
+
+            else if (fieldName.equals(DataCiteDateConstants.DATE_INFO_JSON))
+                dateInfo = in.nextString();
+
+            else
+                in.skipValue();
+        }
+
+        in.endObject();
+
+        final AbstractDate returnDate;
+
+        // is date-range?
+        if (value == null || value.indexOf(DataCiteDateConstants.DATE_RANGE_SPLITTER) == -1)
+            returnDate = new Date(value, dateType);
+        else
+            returnDate = new DateRange(value, dateType);
+
+        if (dateInfo != null)
+            returnDate.setInformation(dateInfo);
+
+        return returnDate;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.adapters;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.json.datacite.enums.FunderIdentifierType;
+
+/**
+ * This adapter defines the streaming (de-)serialization behavior of {@linkplain FunderIdentifierType}s,
+ * replacing underscores of the enum names with spaces.
+ * The resulting JSON is equal to that of the {@linkplain FunderIdentifierTypeAdapter}.
+ *
+ * @author Robin Weiss
+ */
+public class StreamingFunderIdentifierTypeAdapter extends TypeAdapter<FunderIdentifierType>
+{
+    private static final char SPACE = ' ';
+    private static final char ESCAPED_SPACE = '_';
+
+
+    @Override
+    public void write(final JsonWriter out, final FunderIdentifierType src) throws IOException
+    {
+        if (src == null)
+            out.nullValue();
+        else
+            out.value(src.toString().replace(ESCAPED_SPACE, SPACE));
+    }
+
+
+    @Override
+    public FunderIdentifierType read(final JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final String rawText = in.nextString().replace(SPACE, ESCAPED_SPACE);
+
+        try {
+            return FunderIdentifierType.valueOf(rawText);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
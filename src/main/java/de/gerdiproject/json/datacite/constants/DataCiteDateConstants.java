@@ -49,6 +49,7 @@ public class DataCiteDateConstants
 
     // DATE PARSING
     public static final String DATE_SPLIT_REGEX = "[\\-/,;. \\\\]+";
+    public static final String DATE_SEPARATOR_CHARS = "-/,;. \\";
     public static final DateTimeFormatter MONTH_FORMATTER = initMonthFormatter();
     public static final DateTimeFormatter ISO8601_FORMATTER = initIso8601Formatter();
     public static final Pattern NUMBERS_PATTERN = Pattern.compile("(\\d{1,})");
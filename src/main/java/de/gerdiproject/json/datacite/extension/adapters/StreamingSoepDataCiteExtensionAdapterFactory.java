@@ -0,0 +1,117 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.extension.adapters;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.json.datacite.extension.soep.SoepDataCiteExtension;
+import de.gerdiproject.json.datacite.extension.soep.SoepVariable;
+
+/**
+ * This factory creates adapters that define the streaming (de-)serialization behavior
+ * of {@linkplain SoepDataCiteExtension}s.
+ * The resulting JSON is equal to that of the {@linkplain SoepDataCiteExtensionAdapter}.
+ *
+ * @author Robin Weiss
+ */
+public class StreamingSoepDataCiteExtensionAdapterFactory implements TypeAdapterFactory
+{
+    private static final Type LIST_TYPE = new TypeToken<List<SoepVariable>>() {} .getType();
+
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type)
+    {
+        if (type.getRawType() != SoepDataCiteExtension.class)
+            return null;
+
+        return (TypeAdapter<T>) new SoepExtensionAdapter(
+                   gson.getAdapter(SoepVariable.class),
+                   (TypeAdapter<List<SoepVariable>>) gson.getAdapter(TypeToken.get(LIST_TYPE)));
+    }
+
+
+    /**
+     * The adapter that is created by the factory.
+     *
+     * @author Robin Weiss
+     */
+    private static class SoepExtensionAdapter extends TypeAdapter<SoepDataCiteExtension>
+    {
+        private final TypeAdapter<SoepVariable> variableAdapter;
+        private final TypeAdapter<List<SoepVariable>> variableListAdapter;
+
+
+        /**
+         * Constructor that requires adapters of the nested {@linkplain SoepVariable}s.
+         *
+         * @param variableAdapter an adapter for single {@linkplain SoepVariable}s
+         * @param variableListAdapter an adapter for lists of {@linkplain SoepVariable}s
+         */
+        SoepExtensionAdapter(final TypeAdapter<SoepVariable> variableAdapter, final TypeAdapter<List<SoepVariable>> variableListAdapter)
+        {
+            super();
+            this.variableAdapter = variableAdapter;
+            this.variableListAdapter = variableListAdapter;
+        }
+
+
+        @Override
+        public void write(final JsonWriter out, final SoepDataCiteExtension src) throws IOException
+        {
+            if (src == null || src.getDatasetVariables() == null || src.getDatasetVariables().isEmpty()) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginArray();
+
+            for (final SoepVariable soepVar : src.getDatasetVariables())
+                variableAdapter.write(out, soepVar);
+
+            out.endArray();
+        }
+
+
+        @Override
+        public SoepDataCiteExtension read(final JsonReader in) throws IOException
+        {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            final SoepDataCiteExtension deserializedObject = new SoepDataCiteExtension();
+            deserializedObject.addSoepDatasetVariables(variableListAdapter.read(in));
+
+            return deserializedObject.getDatasetVariables() == null
+                   ? null
+                   : deserializedObject;
+        }
+    }
+}
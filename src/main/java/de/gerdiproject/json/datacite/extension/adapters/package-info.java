@@ -15,7 +15,8 @@
  *  under the License.
  */
 /**
- * This package contains {@linkplain com.google.gson.JsonSerializer}s and {@linkplain com.google.gson.JsonDeserializer}s
+ * This package contains {@linkplain com.google.gson.JsonSerializer}s, {@linkplain com.google.gson.JsonDeserializer}s, and streaming
+ * {@linkplain com.google.gson.TypeAdapter}s
  * for parsing and writing JSON objects that deal with
  * {@linkplain de.gerdiproject.json.datacite.extension.IDataCiteExtension} implementations.
  *
@@ -0,0 +1,95 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite.extension.generic.adapter;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.gerdiproject.json.datacite.constants.DataCiteResearchConstants;
+import de.gerdiproject.json.datacite.extension.generic.AbstractResearch;
+import de.gerdiproject.json.datacite.extension.generic.constants.ResearchAreaConstants;
+import de.gerdiproject.json.datacite.extension.generic.constants.ResearchDisciplineConstants;
+
+/**
+ * This adapter defines the streaming (de-)serialization behavior of {@linkplain AbstractResearch} objects.
+ * The resulting JSON is equal to that of the {@linkplain ResearchAdapter}.
+ *
+ * @author Robin Weiss
+ */
+public class StreamingResearchAdapter extends TypeAdapter<AbstractResearch>
+{
+    @Override
+    public void write(final JsonWriter out, final AbstractResearch src) throws IOException
+    {
+        if (src == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name(DataCiteResearchConstants.AREA_JSON).value(src.getAreaName());
+        out.name(DataCiteResearchConstants.CATEGORY_JSON).value(src.getCategoryName());
+        out.name(DataCiteResearchConstants.RNBR_JSON).value(src.getRnbrAsString());
+
+        // discipline is optional
+        final String disciString = src.getDisciplineName();
+
+        if (disciString != null)
+            out.name(DataCiteResearchConstants.DISCIPLINE_JSON).value(disciString);
+
+        out.endObject();
+    }
+
+
+    @Override
+    public AbstractResearch read(final JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String rnbrString = null;
+
+        in.beginObject();
+
+        while (in.hasNext()) {
+            if (in.nextName().equals(DataCiteResearchConstants.RNBR_JSON) && in.peek() != JsonToken.NULL)
+                rnbrString = in.nextString();
+            else
+                in.skipValue();
+        }
+
+        in.endObject();
+
+        final AbstractResearch output;
+
+        if (rnbrString == null)
+            output = null;
+
+        else if (rnbrString.indexOf('-') == -1)
+            output = ResearchAreaConstants.getByRnbrString(rnbrString);
+        else
+            output = ResearchDisciplineConstants.getByRnbrString(rnbrString);
+
+        return output;
+    }
+}
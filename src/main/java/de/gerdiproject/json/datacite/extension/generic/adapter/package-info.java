@@ -14,7 +14,8 @@
  * limitations under the License.
  */
 /**
- * This package contains GSON {@linkplain com.google.gson.JsonSerializer}s and {@linkplain com.google.gson.JsonDeserializer}s
+ * This package contains GSON {@linkplain com.google.gson.JsonSerializer}s, {@linkplain com.google.gson.JsonDeserializer}s, and streaming
+ * {@linkplain com.google.gson.TypeAdapter}s
  * for parsing and writing JSON objects that are part of the GeRDI extension of the
  * {@linkplain de.gerdiproject.json.datacite.DataCiteJson}.
  *
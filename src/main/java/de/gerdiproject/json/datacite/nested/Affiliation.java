@@ -18,9 +18,13 @@ package de.gerdiproject.json.datacite.nested;
 
 import com.google.gson.annotations.SerializedName;
 
-import lombok.AllArgsConstructor;
+import de.gerdiproject.harvest.IFlyweight;
+import de.gerdiproject.harvest.utils.StringUtils;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+import lombok.AccessLevel;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * An organisational or institutional affiliation of a person.
@@ -28,8 +32,8 @@ import lombok.RequiredArgsConstructor;
  *
  * @author Robin Weiss
  */
-@Data @RequiredArgsConstructor @AllArgsConstructor
-public class Affiliation
+@Data
+public class Affiliation implements IFlyweight
 {
     /**
      * -- GETTER --
@@ -48,13 +52,9 @@ public class Affiliation
      * Retrieves a unique identifier of the organizational affiliation.
      * <br>e.g. https://ror.org/04aj4c181
      * @return a unique identifier of the organizational affiliation
-     *
-     * -- SETTER --
-     * Sets a unique identifier of the organizational affiliation.
-     * <br>e.g. https://ror.org/04aj4c181
-     * @param identifier a unique identifier of the organizational affiliation
      */
     @SerializedName("affiliationIdentifier")
+    @Setter(AccessLevel.NONE)
     private String identifier;
 
 
@@ -63,13 +63,9 @@ public class Affiliation
      * Retrieves the name of the affiliation identifier schema.
      * <br>e.g. ROR
      * @return the name of the affiliation identifier schema
-     *
-     * -- SETTER --
-     * Sets the name of the affiliation identifier schema.
-     * <br>e.g. ROR
-     * @param identifierScheme the name of the affiliation identifier schema
      */
     @SerializedName("affiliationIdentifierScheme")
+    @Setter(AccessLevel.NONE)
     private String identifierScheme;
 
 
@@ -78,11 +74,87 @@ public class Affiliation
      * Retrieves the scheme URI of the affiliation identifier schema.
      * <br>e.g. https://ror.org/
      * @return the scheme URI of the affiliation identifier schema
+     */
+    @Setter(AccessLevel.NONE)
+    private String schemeURI;
+
+
+    /**
+     * -- GETTER --
+     * Checks if the affiliation is shared by multiple documents and cannot be modified.
+     * @return true if the affiliation is shared and cannot be modified
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean shared;
+
+
+    /**
+     * Constructor that sets the name of the affiliation.
      *
-     * -- SETTER --
+     * @param value the name of the affiliation
+     */
+    public Affiliation(final String value)
+    {
+        this.value = StringUtils.intern(value);
+    }
+
+
+    /**
+     * Constructor that sets all fields of the affiliation.
+     *
+     * @param value the name of the affiliation
+     * @param identifier a unique identifier of the organizational affiliation
+     * @param identifierScheme the name of the affiliation identifier schema
+     * @param schemeURI the scheme URI of the affiliation identifier schema
+     */
+    public Affiliation(final String value, final String identifier, final String identifierScheme, final String schemeURI)
+    {
+        this.value = StringUtils.intern(value);
+        this.identifier = StringUtils.intern(identifier);
+        this.identifierScheme = StringUtils.intern(identifierScheme);
+        this.schemeURI = StringUtils.intern(schemeURI);
+    }
+
+
+    /**
+     * Sets a unique identifier of the organizational affiliation.
+     * <br>e.g. https://ror.org/04aj4c181
+     * @param identifier a unique identifier of the organizational affiliation
+     */
+    public void setIdentifier(final String identifier)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.identifier = StringUtils.intern(identifier);
+    }
+
+
+    /**
+     * Sets the name of the affiliation identifier schema.
+     * <br>e.g. ROR
+     * @param identifierScheme the name of the affiliation identifier schema
+     */
+    public void setIdentifierScheme(final String identifierScheme)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.identifierScheme = StringUtils.intern(identifierScheme);
+    }
+
+
+    /**
      * Sets the scheme URI of the affiliation identifier schema.
      * <br>e.g. https://ror.org/
      * @param schemeURI the scheme URI of the affiliation identifier schema
      */
-    private String schemeURI;
+    public void setSchemeURI(final String schemeURI)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.schemeURI = StringUtils.intern(schemeURI);
+    }
+
+
+    @Override
+    public void share()
+    {
+        this.shared = true;
+    }
 }
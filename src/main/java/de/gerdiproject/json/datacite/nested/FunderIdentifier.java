@@ -17,8 +17,13 @@ package de.gerdiproject.json.datacite.nested;
 
 import com.google.gson.annotations.SerializedName;
 
+import de.gerdiproject.harvest.IFlyweight;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
 import de.gerdiproject.json.datacite.enums.FunderIdentifierType;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Uniquely identifies a funding entity, according to various types.
@@ -28,7 +33,7 @@ import lombok.Data;
  * @author Robin Weiss
  */
 @Data
-public class FunderIdentifier
+public class FunderIdentifier implements IFlyweight
 {
     /**
      * -- GETTER --
@@ -60,11 +65,35 @@ public class FunderIdentifier
      * Retrieves the URI of the funder identifier schema.
      * <br> e.g. https://www.crossref.org/services/funder-registry/
      * @return the scheme URI of the {@linkplain FunderIdentifierType}
-     *
-     * -- SETTER --
+     */
+    @Setter(AccessLevel.NONE)
+    private String schemeURI;
+
+
+    /**
+     * -- GETTER --
+     * Checks if the funder identifier is shared by multiple documents and cannot be modified.
+     * @return true if the funder identifier is shared and cannot be modified
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean shared;
+
+
+    /**
      * Sets the URI of the funder identifier schema.
      * <br> e.g. https://www.crossref.org/services/funder-registry/
      * @param schemeURI the scheme URI of the {@linkplain FunderIdentifierType}
      */
-    private String schemeURI;
+    public void setSchemeURI(final String schemeURI)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.schemeURI = schemeURI;
+    }
+
+
+    @Override
+    public void share()
+    {
+        this.shared = true;
+    }
 }
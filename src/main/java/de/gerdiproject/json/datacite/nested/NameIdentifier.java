@@ -17,9 +17,13 @@ package de.gerdiproject.json.datacite.nested;
 
 import com.google.gson.annotations.SerializedName;
 
-import lombok.AllArgsConstructor;
+import de.gerdiproject.harvest.IFlyweight;
+import de.gerdiproject.harvest.utils.StringUtils;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+import lombok.AccessLevel;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * A unique identifier for an individual or legal entity, according to various schemes.
@@ -27,8 +31,8 @@ import lombok.RequiredArgsConstructor;
  * Source: https://schema.datacite.org/meta/kernel-4.1/doc/DataCite-MetadataKernel_v4.1.pdf
  * @author Robin Weiss
  */
-@Data @RequiredArgsConstructor @AllArgsConstructor
-public class NameIdentifier
+@Data
+public class NameIdentifier implements IFlyweight
 {
     /**
      * -- GETTER --
@@ -64,11 +68,63 @@ public class NameIdentifier
      * Retrieves the URI of the name identifier scheme.
      * <br>e.g. http://orcid.org/
      * @return the URI of the name identifier scheme
+     */
+    @Setter(AccessLevel.NONE)
+    private String schemeURI;
+
+
+    /**
+     * -- GETTER --
+     * Checks if the identifier is shared by multiple documents and cannot be modified.
+     * @return true if the identifier is shared and cannot be modified
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean shared;
+
+
+    /**
+     * Constructor that sets the identifier and its scheme.
      *
-     * -- SETTER --
+     * @param value the identifier of an individual or legal entity
+     * @param scheme the name of the name identifier scheme
+     */
+    public NameIdentifier(final String value, final String scheme)
+    {
+        this.value = StringUtils.intern(value);
+        this.scheme = StringUtils.intern(scheme);
+    }
+
+
+    /**
+     * Constructor that sets all fields of the name identifier.
+     *
+     * @param value the identifier of an individual or legal entity
+     * @param scheme the name of the name identifier scheme
+     * @param schemeURI the URI of the name identifier scheme
+     */
+    public NameIdentifier(final String value, final String scheme, final String schemeURI)
+    {
+        this.value = StringUtils.intern(value);
+        this.scheme = StringUtils.intern(scheme);
+        this.schemeURI = StringUtils.intern(schemeURI);
+    }
+
+
+    /**
      * Sets the URI of the name identifier scheme.
      * <br>e.g. http://orcid.org/
      * @param schemeURI the URI of the name identifier scheme
      */
-    private String schemeURI;
+    public void setSchemeURI(final String schemeURI)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.schemeURI = StringUtils.intern(schemeURI);
+    }
+
+
+    @Override
+    public void share()
+    {
+        this.shared = true;
+    }
 }
@@ -15,9 +15,13 @@
  */
 package de.gerdiproject.json.datacite.nested;
 
-import lombok.AllArgsConstructor;
+import de.gerdiproject.harvest.IFlyweight;
+import de.gerdiproject.harvest.utils.StringUtils;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+import lombok.AccessLevel;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * The entity that holds, archives, publishes prints, distributes,
@@ -26,8 +30,8 @@ import lombok.RequiredArgsConstructor;
  *
  * @author Robin Weiss
  */
-@Data @RequiredArgsConstructor @AllArgsConstructor
-public class Publisher
+@Data
+public class Publisher implements IFlyweight
 {
     /**
      * -- GETTER --
@@ -46,11 +50,59 @@ public class Publisher
      * Retrieves the optional IETF language tag of the publisher.
      * <br>e.g. de, en-US
      * @return the optional IETF language tag of the publisher
+     */
+    @Setter(AccessLevel.NONE)
+    private String lang;
+
+
+    /**
+     * -- GETTER --
+     * Checks if the publisher is shared by multiple documents and cannot be modified.
+     * @return true if the publisher is shared and cannot be modified
+     */
+    @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient boolean shared;
+
+
+    /**
+     * Constructor that sets the name of the publisher.
      *
-     * -- SETTER --
+     * @param value the name of the publisher
+     */
+    public Publisher(final String value)
+    {
+        this.value = StringUtils.intern(value);
+    }
+
+
+    /**
+     * Constructor that sets the name and language of the publisher.
+     *
+     * @param value the name of the publisher
+     * @param lang the IETF language tag of the publisher
+     */
+    public Publisher(final String value, final String lang)
+    {
+        this.value = StringUtils.intern(value);
+        this.lang = StringUtils.intern(lang);
+    }
+
+
+    /**
      * Sets the optional IETF language tag of the publisher.
      * <br>e.g. de, en-US
      * @param lang the optional IETF language tag of the publisher
      */
-    private String lang;
+    public void setLang(final String lang)
+    {
+        FlyweightCache.checkModifiable(this);
+        this.lang = StringUtils.intern(lang);
+    }
+
+
+    @Override
+    public void share()
+    {
+        this.shared = true;
+    }
 }
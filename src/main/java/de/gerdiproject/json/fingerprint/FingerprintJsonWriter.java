@@ -0,0 +1,384 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.fingerprint;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This {@linkplain JsonWriter} does not write JSON, but calculates a 64 bit hash
+ * of all JSON tokens that would have been written.
+ * The hash of JSON objects does not depend on the order of their members.
+ * The hash of arrays only depends on the order of their elements if the array
+ * was not marked as unordered via {@linkplain #markNextArrayUnordered()}.
+ *
+ * @author Robin Weiss
+ */
+class FingerprintJsonWriter extends JsonWriter
+{
+    private static final byte OBJECT = 0;
+    private static final byte ARRAY = 1;
+    private static final byte UNORDERED_ARRAY = 2;
+
+    private static final long NULL_HASH = 0x6e756c6c6e756c6cL;
+    private static final long TRUE_HASH = 0x7472756574727565L;
+    private static final long FALSE_HASH = 0x66616c7365666c73L;
+    private static final long STRING_TAG = 0x737472696e670000L;
+    private static final long NUMBER_TAG = 0x6e756d6265720000L;
+    private static final long RAW_JSON_TAG = 0x6a736f6e00000000L;
+    private static final long OBJECT_TAG = 0x6f626a6563740000L;
+    private static final long ARRAY_TAG = 0x6172726179000000L;
+    private static final long UNORDERED_ARRAY_TAG = 0x7365740000000000L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long ORDER_PRIME = 0x9e3779b97f4a7c15L;
+    private static final int INITIAL_DEPTH = 16;
+
+    private byte[] scopeTypes = new byte[INITIAL_DEPTH];
+    private long[] scopeHashes = new long[INITIAL_DEPTH];
+    private int[] scopeSizes = new int[INITIAL_DEPTH];
+    private long[] memberNameHashes = new long[INITIAL_DEPTH];
+    private int depth;
+
+    private boolean isNextArrayUnordered;
+    private boolean hasMemberName;
+    private long fingerprint;
+
+
+    /**
+     * Constructor that creates a writer which does not write anything.
+     */
+    FingerprintJsonWriter()
+    {
+        super(new DiscardingWriter());
+    }
+
+
+    /**
+     * Retrieves the hash of the last JSON value that was written completely.
+     *
+     * @return a 64 bit hash of the written JSON
+     */
+    long getFingerprint()
+    {
+        return fingerprint;
+    }
+
+
+    /**
+     * Marks the next array that is begun as unordered, meaning that
+     * the order of its elements does not affect the hash.
+     */
+    void markNextArrayUnordered()
+    {
+        isNextArrayUnordered = true;
+    }
+
+
+    @Override
+    public JsonWriter beginArray() throws IOException
+    {
+        beginScope(isNextArrayUnordered ? UNORDERED_ARRAY : ARRAY);
+        isNextArrayUnordered = false;
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter endArray() throws IOException
+    {
+        return endScope();
+    }
+
+
+    @Override
+    public JsonWriter beginObject() throws IOException
+    {
+        beginScope(OBJECT);
+        isNextArrayUnordered = false;
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter endObject() throws IOException
+    {
+        return endScope();
+    }
+
+
+    @Override
+    public JsonWriter name(final String name) throws IOException
+    {
+        memberNameHashes[depth - 1] = hashString(name, STRING_TAG);
+        hasMemberName = true;
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter value(final String value) throws IOException
+    {
+        if (value == null)
+            return nullValue();
+
+        addValue(hashString(value, STRING_TAG));
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter jsonValue(final String value) throws IOException
+    {
+        if (value == null)
+            return nullValue();
+
+        addValue(hashString(value, RAW_JSON_TAG));
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter nullValue() throws IOException
+    {
+        isNextArrayUnordered = false;
+
+        // object members with null values are omitted, unless nulls are serialized
+        if (hasMemberName && !getSerializeNulls())
+            hasMemberName = false;
+        else
+            addValue(NULL_HASH);
+
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter value(final boolean value) throws IOException
+    {
+        addValue(value ? TRUE_HASH : FALSE_HASH);
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter value(final Boolean value) throws IOException
+    {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+
+    @Override
+    public JsonWriter value(final double value) throws IOException
+    {
+        addValue(hashString(Double.toString(value), NUMBER_TAG));
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter value(final long value) throws IOException
+    {
+        addValue(hashString(Long.toString(value), NUMBER_TAG));
+        return this;
+    }
+
+
+    @Override
+    public JsonWriter value(final Number value) throws IOException
+    {
+        if (value == null)
+            return nullValue();
+
+        addValue(hashString(value.toString(), NUMBER_TAG));
+        return this;
+    }
+
+
+    @Override
+    public void flush()
+    {
+        // nothing to flush
+    }
+
+
+    @Override
+    public void close()
+    {
+        // nothing to close
+    }
+
+
+    /**
+     * Opens a JSON object or array.
+     *
+     * @param scopeType the type of the opened scope
+     */
+    private void beginScope(final byte scopeType)
+    {
+        if (depth == scopeTypes.length) {
+            final int newLength = depth * 2;
+            scopeTypes = Arrays.copyOf(scopeTypes, newLength);
+            scopeHashes = Arrays.copyOf(scopeHashes, newLength);
+            scopeSizes = Arrays.copyOf(scopeSizes, newLength);
+            memberNameHashes = Arrays.copyOf(memberNameHashes, newLength);
+        }
+
+        scopeTypes[depth] = scopeType;
+        scopeHashes[depth] = 0L;
+        scopeSizes[depth] = 0;
+        depth++;
+        hasMemberName = false;
+    }
+
+
+    /**
+     * Closes the innermost JSON object or array and adds its hash to the enclosing scope.
+     *
+     * @return this writer
+     */
+    private JsonWriter endScope()
+    {
+        depth--;
+
+        final long tag;
+
+        switch (scopeTypes[depth]) {
+            case OBJECT:
+                tag = OBJECT_TAG;
+                break;
+
+            case UNORDERED_ARRAY:
+                tag = UNORDERED_ARRAY_TAG;
+                break;
+
+            default:
+                tag = ARRAY_TAG;
+        }
+
+        addValue(mix(scopeHashes[depth] ^ tag) + scopeSizes[depth]);
+        return this;
+    }
+
+
+    /**
+     * Adds the hash of a complete JSON value to the innermost scope,
+     * or sets it as the fingerprint if there is no enclosing scope.
+     *
+     * @param valueHash the hash of the JSON value
+     */
+    private void addValue(final long valueHash)
+    {
+        isNextArrayUnordered = false;
+        hasMemberName = false;
+
+        if (depth == 0) {
+            fingerprint = mix(valueHash);
+            return;
+        }
+
+        final int scope = depth - 1;
+
+        switch (scopeTypes[scope]) {
+            case OBJECT:
+                // members are summed up, because their order does not matter
+                scopeHashes[scope] += mix(memberNameHashes[scope] * ORDER_PRIME + valueHash);
+                break;
+
+            case UNORDERED_ARRAY:
+                scopeHashes[scope] += mix(valueHash);
+                break;
+
+            default:
+                scopeHashes[scope] = scopeHashes[scope] * ORDER_PRIME + valueHash;
+        }
+
+        scopeSizes[scope]++;
+    }
+
+
+    /**
+     * Calculates a 64 bit FNV-1a hash of a string.
+     *
+     * @param value the string that is to be hashed
+     * @param tag a number that distinguishes different types of values
+     *
+     * @return a 64 bit hash of the string
+     */
+    private static long hashString(final String value, final long tag)
+    {
+        long hash = FNV_OFFSET_BASIS ^ tag;
+        final int length = value.length();
+
+        for (int i = 0; i < length; i++)
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+
+        return mix(hash ^ length);
+    }
+
+
+    /**
+     * Scrambles the bits of a 64 bit hash, using the finalizer of MurmurHash3.
+     *
+     * @param hash the hash that is to be scrambled
+     *
+     * @return the scrambled hash
+     */
+    private static long mix(final long hash)
+    {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+
+    /**
+     * This {@linkplain Writer} discards everything that is written to it.
+     *
+     * @author Robin Weiss
+     */
+    private static class DiscardingWriter extends Writer
+    {
+        @Override
+        public void write(final char[] cbuf, final int off, final int len)
+        {
+            // discard the characters
+        }
+
+
+        @Override
+        public void flush()
+        {
+            // nothing to flush
+        }
+
+
+        @Override
+        public void close()
+        {
+            // nothing to close
+        }
+    }
+}
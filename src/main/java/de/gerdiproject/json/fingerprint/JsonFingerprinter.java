@@ -0,0 +1,69 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.fingerprint;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * This class calculates 64 bit fingerprints of the JSON representations of objects.
+ * The JSON is not built, but its tokens are hashed while they are streamed.
+ * Equal JSON representations result in equal fingerprints, regardless of the order of
+ * object members and of the elements of {@linkplain java.util.Set}s.
+ * The fingerprints are stable across JVMs and can thus be stored
+ * for detecting changes in subsequent runs.
+ *
+ * @author Robin Weiss
+ */
+public class JsonFingerprinter
+{
+    private final Gson gson;
+
+
+    /**
+     * Constructor that requires a {@linkplain GsonBuilder} which defines
+     * the JSON representations of the fingerprinted objects.
+     *
+     * @param gsonBuilder a {@linkplain GsonBuilder} that is able to serialize the fingerprinted objects
+     */
+    public JsonFingerprinter(final GsonBuilder gsonBuilder)
+    {
+        this.gson = gsonBuilder
+                    .registerTypeAdapterFactory(new UnorderedSetAdapterFactory())
+                    .create();
+    }
+
+
+    /**
+     * Calculates the fingerprint of the JSON representation of an object.
+     *
+     * @param src the object of which the fingerprint is calculated
+     *
+     * @return a 64 bit fingerprint of the JSON representation of the object
+     */
+    public long getFingerprint(final Object src)
+    {
+        final FingerprintJsonWriter writer = new FingerprintJsonWriter();
+
+        if (src == null)
+            gson.toJson(null, Object.class, writer);
+        else
+            gson.toJson(src, src.getClass(), writer);
+
+        return writer.getFingerprint();
+    }
+}
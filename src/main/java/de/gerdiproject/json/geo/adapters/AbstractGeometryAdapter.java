@@ -16,8 +16,10 @@
  */
 package de.gerdiproject.json.geo.adapters;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
@@ -28,12 +30,21 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.CoordinateSequenceFactory;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.PrecisionModel;
+import com.vividsolutions.jts.geom.impl.CoordinateArraySequence;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import de.gerdiproject.json.geo.constants.GeometryConstants;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -47,6 +58,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public abstract class AbstractGeometryAdapter <T extends Geometry> implements JsonSerializer<T>, JsonDeserializer<T>
 {
+    @Getter(AccessLevel.PROTECTED)
     private final String geometryType;
     private final double decimalFactor;
     private final GeometryFactory geoFactory;
@@ -100,6 +112,81 @@ public abstract class AbstractGeometryAdapter <T extends Geometry> implements Js
     }
 
 
+    /**
+     * Writes a {@linkplain Geometry} object directly to a {@linkplain JsonWriter},
+     * without creating an intermediate {@linkplain JsonElement} tree.
+     *
+     * @param out the {@linkplain JsonWriter} to which the {@linkplain Geometry} is written
+     * @param src the {@linkplain Geometry} that is to be serialized
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    protected void writeGeometry(final JsonWriter out, final T src) throws IOException
+    {
+        if (src == null || !canSerialize(src))
+            out.nullValue();
+        else {
+            out.beginObject();
+            out.name(GeometryConstants.TYPE_JSON_FIELD).value(geometryType);
+            out.name(GeometryConstants.COORDINATES_JSON_FIELD);
+            writeCoordinates(out, src);
+            out.endObject();
+        }
+    }
+
+
+    /**
+     * Reads a {@linkplain Geometry} object directly from a {@linkplain JsonReader},
+     * without creating an intermediate {@linkplain JsonElement} tree.
+     *
+     * @param in the {@linkplain JsonReader} that is positioned in front of a GeoJson object
+     *
+     * @return the deserialized {@linkplain Geometry}, or null if it has no coordinates
+     *
+     * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+     */
+    protected T readGeometry(final JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        T geo = null;
+        in.beginObject();
+
+        while (in.hasNext()) {
+            if (in.nextName().equals(GeometryConstants.COORDINATES_JSON_FIELD))
+                geo = readCoordinatesOrNull(in);
+            else
+                in.skipValue();
+        }
+
+        in.endObject();
+        return geo;
+    }
+
+
+    /**
+     * Reads the value of a coordinates field, which may be null.
+     *
+     * @param in the {@linkplain JsonReader} that is positioned in front of the coordinates value
+     *
+     * @return the deserialized {@linkplain Geometry}, or null if there are no coordinates
+     *
+     * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+     */
+    protected T readCoordinatesOrNull(final JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return readCoordinates(in, geoFactory);
+    }
+
+
     /**
      * Creates a {@linkplain Geometry} object by deserializing its {@linkplain Coordinate}s {@linkplain JsonArray}.
      *
@@ -121,6 +208,42 @@ public abstract class AbstractGeometryAdapter <T extends Geometry> implements Js
     protected abstract JsonArray serializeCoordinates(final T src);
 
 
+    /**
+     * Checks if a {@linkplain Geometry} has {@linkplain Coordinate}s that can be serialized.
+     * If this method returns false, the {@linkplain Geometry} is serialized as null.
+     *
+     * @param src the {@linkplain Geometry} that is to be checked
+     *
+     * @return true if the coordinates of the {@linkplain Geometry} can be serialized
+     */
+    protected abstract boolean canSerialize(final T src);
+
+
+    /**
+     * Writes the {@linkplain Coordinate}s of a {@linkplain Geometry} directly to a {@linkplain JsonWriter}.
+     *
+     * @param out the {@linkplain JsonWriter} to which the coordinates are written
+     * @param src a {@linkplain Geometry} the {@linkplain Coordinate}s of which are to be serialized
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    protected abstract void writeCoordinates(final JsonWriter out, final T src) throws IOException;
+
+
+    /**
+     * Creates a {@linkplain Geometry} object by reading its {@linkplain Coordinate}s directly
+     * from a {@linkplain JsonReader}. The entire coordinates array must be consumed.
+     *
+     * @param in the {@linkplain JsonReader} that is positioned in front of the coordinates array
+     * @param factory the {@linkplain GeometryFactory} used for building the output
+     *
+     * @return a {@linkplain Geometry} object, or null if the coordinates array is empty
+     *
+     * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+     */
+    protected abstract T readCoordinates(final JsonReader in, final GeometryFactory factory) throws IOException;
+
+
     /**
      * Converts an array of {@linkplain Coordinate}s to a {@linkplain JsonArray}.
      *
@@ -139,7 +262,7 @@ public abstract class AbstractGeometryAdapter <T extends Geometry> implements Js
             final JsonArray coordinateJson = coordinateToJsonArray(c);
 
             if (coordinateJson != null)
-                jsonArray.add(coordinateToJsonArray(c));
+                jsonArray.add(coordinateJson);
         }
 
         return jsonArray;
@@ -237,4 +360,250 @@ public abstract class AbstractGeometryAdapter <T extends Geometry> implements Js
 
         return coordinates;
     }
+
+
+    /**
+     * Writes an array of {@linkplain Coordinate}s directly to a {@linkplain JsonWriter}.
+     * Null-{@linkplain Coordinate}s are skipped.
+     *
+     * @param out the {@linkplain JsonWriter} to which the coordinates are written
+     * @param coordinates the {@linkplain Coordinate}s which are to be serialized
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    protected void writeCoordinateArray(final JsonWriter out, final Coordinate... coordinates) throws IOException
+    {
+        out.beginArray();
+
+        for (final Coordinate c : coordinates) {
+            if (c != null)
+                writeCoordinate(out, c);
+        }
+
+        out.endArray();
+    }
+
+
+    /**
+     * Writes a single {@linkplain Coordinate} directly to a {@linkplain JsonWriter}.
+     *
+     * @param out the {@linkplain JsonWriter} to which the coordinate is written
+     * @param coordinate the {@linkplain Coordinate} which is to be serialized
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    protected void writeCoordinate(final JsonWriter out, final Coordinate coordinate) throws IOException
+    {
+        writeOrdinates(out, coordinate.x, coordinate.y, coordinate.z);
+    }
+
+
+    /**
+     * Writes a {@linkplain CoordinateSequence} directly to a {@linkplain JsonWriter}, reading the
+     * ordinates of each coordinate without creating {@linkplain Coordinate} objects.
+     *
+     * @param out the {@linkplain JsonWriter} to which the coordinates are written
+     * @param sequence the {@linkplain CoordinateSequence} which is to be serialized
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    protected void writeCoordinateSequence(final JsonWriter out, final CoordinateSequence sequence) throws IOException
+    {
+        // array-backed sequences may contain null-coordinates, which are skipped
+        if (sequence instanceof CoordinateArraySequence) {
+            writeCoordinateArray(out, sequence.toCoordinateArray());
+            return;
+        }
+
+        out.beginArray();
+
+        final int size = sequence.size();
+        final boolean hasZ = sequence.getDimension() > CoordinateSequence.Z;
+
+        for (int i = 0; i < size; i++) {
+            writeOrdinates(
+                out,
+                sequence.getOrdinate(i, CoordinateSequence.X),
+                sequence.getOrdinate(i, CoordinateSequence.Y),
+                hasZ ? sequence.getOrdinate(i, CoordinateSequence.Z) : Double.NaN);
+        }
+
+        out.endArray();
+    }
+
+
+    /**
+     * Writes the ordinates of a single coordinate directly to a {@linkplain JsonWriter}.
+     *
+     * @param out the {@linkplain JsonWriter} to which the coordinate is written
+     * @param x the longitude
+     * @param y the latitude
+     * @param z the elevation, which is only written if it is finite
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    private void writeOrdinates(final JsonWriter out, final double x, final double y, final double z) throws IOException
+    {
+        out.beginArray();
+
+        // check if coordinates must be rounded or not
+        if (decimalFactor == Double.POSITIVE_INFINITY) {
+            out.value(x);
+            out.value(y);
+
+            if (Double.isFinite(z))
+                out.value(z);
+        } else {
+            out.value(Math.round(x * decimalFactor) / decimalFactor);
+            out.value(Math.round(y * decimalFactor) / decimalFactor);
+
+            if (Double.isFinite(z))
+                out.value(Math.round(z * decimalFactor) / decimalFactor);
+        }
+
+        out.endArray();
+    }
+
+
+    /**
+     * Reads a single {@linkplain Coordinate} directly from a {@linkplain JsonReader}.
+     *
+     * @param in the {@linkplain JsonReader} that is positioned in front of a coordinate array
+     *
+     * @return a single {@linkplain Coordinate}, or null if it has less than two dimensions
+     *
+     * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+     */
+    protected Coordinate readCoordinate(final JsonReader in) throws IOException
+    {
+        final double[] ordinates = new double[GeometryConstants.MAX_ORDINATES];
+        final int dimensions = readOrdinates(in, ordinates, 0);
+
+        if (dimensions < 2)
+            return null;
+
+        return dimensions > 2
+               ? new Coordinate(ordinates[0], ordinates[1], ordinates[2])
+               : new Coordinate(ordinates[0], ordinates[1]);
+    }
+
+
+    /**
+     * Reads an array of coordinates directly from a {@linkplain JsonReader} into a
+     * {@linkplain CoordinateSequence} of a specified {@linkplain GeometryFactory}.
+     * The ordinates are collected in a single packed array, so that no {@linkplain Coordinate}
+     * objects are created, unless the {@linkplain CoordinateSequence}s of the factory consist of them.
+     * Coordinates with less than two dimensions are skipped.
+     *
+     * @param in the {@linkplain JsonReader} that is positioned in front of an array of coordinates
+     * @param factory the {@linkplain GeometryFactory} that creates the {@linkplain CoordinateSequence}
+     *
+     * @return a {@linkplain CoordinateSequence}, or null if the array is empty
+     *
+     * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+     */
+    protected CoordinateSequence readCoordinateSequence(final JsonReader in, final GeometryFactory factory) throws IOException
+    {
+        double[] ordinates = new double[GeometryConstants.INITIAL_COORDINATE_CAPACITY * GeometryConstants.MAX_ORDINATES];
+        int size = 0;
+        boolean hasZ = false;
+
+        in.beginArray();
+
+        while (in.hasNext()) {
+            final int offset = size * GeometryConstants.MAX_ORDINATES;
+
+            if (offset == ordinates.length)
+                ordinates = Arrays.copyOf(ordinates, ordinates.length * 2);
+
+            final int dimensions = readOrdinates(in, ordinates, offset);
+
+            if (dimensions >= 2) {
+                hasZ |= dimensions > 2;
+                size++;
+            }
+        }
+
+        in.endArray();
+
+        return size == 0
+               ? null
+               : createCoordinateSequence(factory.getCoordinateSequenceFactory(), ordinates, size, hasZ ? 3 : 2);
+    }
+
+
+    /**
+     * Reads the ordinates of a single coordinate directly from a {@linkplain JsonReader}
+     * and rounds them to the specified precision. Missing elevations are stored as {@linkplain Double#NaN}.
+     *
+     * @param in the {@linkplain JsonReader} that is positioned in front of a coordinate array
+     * @param ordinates the array to which the longitude, latitude, and elevation are written
+     * @param offset the index of the longitude within the ordinates array
+     *
+     * @return the number of dimensions of the coordinate
+     *
+     * @throws IOException thrown when the {@linkplain JsonReader} cannot be read
+     */
+    private int readOrdinates(final JsonReader in, final double[] ordinates, final int offset) throws IOException
+    {
+        int dimensions = 0;
+        ordinates[offset + 2] = Double.NaN;
+
+        in.beginArray();
+
+        while (in.hasNext()) {
+            if (dimensions < GeometryConstants.MAX_ORDINATES) {
+                final double ordinate = in.nextDouble();
+
+                // round coordinates to the specified precision
+                ordinates[offset + dimensions] = decimalFactor == Double.POSITIVE_INFINITY
+                                                 ? ordinate
+                                                 : Math.round(ordinate * decimalFactor) / decimalFactor;
+            } else
+                in.skipValue();
+
+            dimensions++;
+        }
+
+        in.endArray();
+
+        return dimensions;
+    }
+
+
+    /**
+     * Creates a {@linkplain CoordinateSequence} out of packed ordinates.
+     *
+     * @param sequenceFactory the factory that creates the {@linkplain CoordinateSequence}
+     * @param ordinates an array that contains three ordinates per coordinate
+     * @param size the number of coordinates
+     * @param dimension the number of dimensions of the created {@linkplain CoordinateSequence}
+     *
+     * @return a {@linkplain CoordinateSequence} with the specified coordinates
+     */
+    private static CoordinateSequence createCoordinateSequence(final CoordinateSequenceFactory sequenceFactory, final double[] ordinates, final int size, final int dimension)
+    {
+        // packed sequences can adopt a packed array directly
+        if (sequenceFactory instanceof PackedCoordinateSequenceFactory) {
+            final double[] packedOrdinates = new double[size * dimension];
+
+            for (int i = 0; i < size; i++)
+                System.arraycopy(ordinates, i * GeometryConstants.MAX_ORDINATES, packedOrdinates, i * dimension, dimension);
+
+            return ((PackedCoordinateSequenceFactory) sequenceFactory).create(packedOrdinates, dimension);
+        }
+
+        final CoordinateSequence sequence = sequenceFactory.create(size, dimension);
+
+        for (int i = 0; i < size; i++) {
+            final int offset = i * GeometryConstants.MAX_ORDINATES;
+            sequence.setOrdinate(i, CoordinateSequence.X, ordinates[offset]);
+            sequence.setOrdinate(i, CoordinateSequence.Y, ordinates[offset + 1]);
+
+            if (dimension > 2)
+                sequence.setOrdinate(i, CoordinateSequence.Z, ordinates[offset + 2]);
+        }
+
+        return sequence;
+    }
 }
@@ -16,8 +16,14 @@
  */
 package de.gerdiproject.json.geo.adapters;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.vividsolutions.jts.geom.Coordinate;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
@@ -74,4 +80,43 @@ public class MultiLineStringAdapter extends AbstractGeometryAdapter<MultiLineStr
 
         return factory.createMultiLineString(lineStrings);
     }
+
+
+    @Override
+    protected boolean canSerialize(final MultiLineString src)
+    {
+        return src.getNumGeometries() != 0;
+    }
+
+
+    @Override
+    protected void writeCoordinates(final JsonWriter out, final MultiLineString src) throws IOException
+    {
+        out.beginArray();
+
+        final int size = src.getNumGeometries();
+
+        for (int i = 0; i < size; i++)
+            writeCoordinateSequence(out, ((LineString) src.getGeometryN(i)).getCoordinateSequence());
+
+        out.endArray();
+    }
+
+
+    @Override
+    protected MultiLineString readCoordinates(final JsonReader in, final GeometryFactory factory) throws IOException
+    {
+        final List<LineString> lineStrings = new ArrayList<>();
+
+        in.beginArray();
+
+        while (in.hasNext())
+            lineStrings.add(factory.createLineString(readCoordinateSequence(in, factory)));
+
+        in.endArray();
+
+        return lineStrings.isEmpty()
+               ? null
+               : factory.createMultiLineString(lineStrings.toArray(new LineString[lineStrings.size()]));
+    }
 }
@@ -16,8 +16,13 @@
  */
 package de.gerdiproject.json.geo.adapters;
 
+import java.io.IOException;
+
 import com.google.gson.JsonArray;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.MultiPoint;
@@ -53,4 +58,26 @@ public class MultiPointAdapter extends AbstractGeometryAdapter<MultiPoint>
         final Coordinate[] coordinates = jsonArrayToCoordinates(jsonCoordinates);
         return factory.createMultiPoint(coordinates);
     }
+
+
+    @Override
+    protected boolean canSerialize(final MultiPoint src)
+    {
+        return true;
+    }
+
+
+    @Override
+    protected void writeCoordinates(final JsonWriter out, final MultiPoint src) throws IOException
+    {
+        writeCoordinateArray(out, src.getCoordinates());
+    }
+
+
+    @Override
+    protected MultiPoint readCoordinates(final JsonReader in, final GeometryFactory factory) throws IOException
+    {
+        final CoordinateSequence coordinates = readCoordinateSequence(in, factory);
+        return coordinates == null ? null : factory.createMultiPoint(coordinates);
+    }
 }
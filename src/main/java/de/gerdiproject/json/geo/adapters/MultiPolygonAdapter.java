@@ -16,8 +16,14 @@
  */
 package de.gerdiproject.json.geo.adapters;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.MultiPolygon;
@@ -76,4 +82,49 @@ public class MultiPolygonAdapter extends AbstractGeometryAdapter<MultiPolygon>
 
         return factory.createMultiPolygon(polygons);
     }
+
+
+    @Override
+    protected boolean canSerialize(final MultiPolygon src)
+    {
+        return src.getNumGeometries() != 0;
+    }
+
+
+    @Override
+    protected void writeCoordinates(final JsonWriter out, final MultiPolygon src) throws IOException
+    {
+        out.beginArray();
+
+        final int size = src.getNumGeometries();
+
+        for (int i = 0; i < size; i++) {
+            final Polygon poly = (Polygon) src.getGeometryN(i);
+
+            if (polygonAdapter.canSerialize(poly))
+                polygonAdapter.writeCoordinates(out, poly);
+            else
+                out.nullValue();
+        }
+
+        out.endArray();
+    }
+
+
+    @Override
+    protected MultiPolygon readCoordinates(final JsonReader in, final GeometryFactory factory) throws IOException
+    {
+        final List<Polygon> polygons = new ArrayList<>();
+
+        in.beginArray();
+
+        while (in.hasNext())
+            polygons.add(polygonAdapter.readCoordinates(in, factory));
+
+        in.endArray();
+
+        return polygons.isEmpty()
+               ? null
+               : factory.createMultiPolygon(polygons.toArray(new Polygon[polygons.size()]));
+    }
 }
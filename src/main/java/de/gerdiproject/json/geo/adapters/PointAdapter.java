@@ -16,7 +16,11 @@
  */
 package de.gerdiproject.json.geo.adapters;
 
+import java.io.IOException;
+
 import com.google.gson.JsonArray;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.vividsolutions.jts.geom.Coordinate;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
@@ -53,4 +57,26 @@ public class PointAdapter extends AbstractGeometryAdapter<Point>
         final Coordinate coordinate = jsonArrayToCoordinate(jsonCoordinates);
         return coordinate == null ? null : factory.createPoint(coordinate);
     }
+
+
+    @Override
+    protected boolean canSerialize(final Point src)
+    {
+        return src.getCoordinate() != null;
+    }
+
+
+    @Override
+    protected void writeCoordinates(final JsonWriter out, final Point src) throws IOException
+    {
+        writeCoordinate(out, src.getCoordinate());
+    }
+
+
+    @Override
+    protected Point readCoordinates(final JsonReader in, final GeometryFactory factory) throws IOException
+    {
+        final Coordinate coordinate = readCoordinate(in);
+        return coordinate == null ? null : factory.createPoint(coordinate);
+    }
 }
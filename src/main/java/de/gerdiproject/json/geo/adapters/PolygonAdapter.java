@@ -16,10 +16,15 @@
  */
 package de.gerdiproject.json.geo.adapters;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.vividsolutions.jts.geom.Coordinate;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
@@ -90,4 +95,55 @@ public class PolygonAdapter extends AbstractGeometryAdapter<Polygon>
 
         return factory.createPolygon(hull, holes);
     }
+
+
+    @Override
+    protected boolean canSerialize(final Polygon src)
+    {
+        final LineString hull = src.getExteriorRing();
+        return hull != null && hull.getNumPoints() >= 4;
+    }
+
+
+    @Override
+    protected void writeCoordinates(final JsonWriter out, final Polygon src) throws IOException
+    {
+        out.beginArray();
+
+        // add Polygon hull
+        writeCoordinateSequence(out, src.getExteriorRing().getCoordinateSequence());
+
+        // add Polygon holes
+        final int holeCount = src.getNumInteriorRing();
+
+        for (int i = 0; i < holeCount; i++)
+            writeCoordinateSequence(out, src.getInteriorRingN(i).getCoordinateSequence());
+
+        out.endArray();
+    }
+
+
+    @Override
+    protected Polygon readCoordinates(final JsonReader in, final GeometryFactory factory) throws IOException
+    {
+        in.beginArray();
+
+        if (!in.hasNext()) {
+            in.endArray();
+            return null;
+        }
+
+        // add Polygon hull
+        final LinearRing hull = factory.createLinearRing(readCoordinateSequence(in, factory));
+
+        // add Polygon holes
+        final List<LinearRing> holes = new ArrayList<>();
+
+        while (in.hasNext())
+            holes.add(factory.createLinearRing(readCoordinateSequence(in, factory)));
+
+        in.endArray();
+
+        return factory.createPolygon(hull, holes.toArray(new LinearRing[holes.size()]));
+    }
 }
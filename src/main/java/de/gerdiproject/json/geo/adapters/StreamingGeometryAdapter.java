@@ -0,0 +1,169 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.geo.adapters;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+
+import de.gerdiproject.json.geo.constants.GeometryConstants;
+
+/**
+ * This adapter (de-)serializes {@linkplain Geometry} objects directly from and to
+ * JSON streams, without building intermediate {@linkplain JsonElement} trees.
+ * The coordinates of each geometry type are handled by the respective
+ * {@linkplain AbstractGeometryAdapter}.
+ *
+ * @author Robin Weiss
+ */
+public class StreamingGeometryAdapter extends TypeAdapter<Geometry>
+{
+    private final Locale locale = Locale.ENGLISH;
+    private final Map<String, AbstractGeometryAdapter<? extends Geometry>> adapterMap;
+
+
+    /**
+     * Constructor that initializes a {@linkplain HashMap} of
+     * {@linkplain AbstractGeometryAdapter}s for all supported geometry types.
+     *
+     * @param geoFactory the {@linkplain GeometryFactory} used to create deserialized objects
+     */
+    public StreamingGeometryAdapter(final GeometryFactory geoFactory)
+    {
+        this.adapterMap = new HashMap<>();
+        addAdapter(new PointAdapter(geoFactory));
+        addAdapter(new MultiPointAdapter(geoFactory));
+        addAdapter(new LineStringAdapter(geoFactory));
+        addAdapter(new MultiLineStringAdapter(geoFactory));
+        addAdapter(new PolygonAdapter(geoFactory));
+        addAdapter(new MultiPolygonAdapter(geoFactory));
+    }
+
+
+    private void addAdapter(final AbstractGeometryAdapter<? extends Geometry> adapter)
+    {
+        adapterMap.put(adapter.getGeometryType().toLowerCase(locale), adapter);
+    }
+
+
+    @Override
+    public void write(final JsonWriter out, final Geometry src) throws IOException
+    {
+        if (src == null)
+            out.nullValue();
+        else
+            writeGeometry(getAdapter(src.getGeometryType()), out, src);
+    }
+
+
+    @Override
+    public Geometry read(final JsonReader in) throws IOException
+    {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AbstractGeometryAdapter<? extends Geometry> adapter = null;
+        JsonElement bufferedCoordinates = null;
+        Geometry geo = null;
+
+        in.beginObject();
+
+        while (in.hasNext()) {
+            final String fieldName = in.nextName();
+
+            if (fieldName.equals(GeometryConstants.TYPE_JSON_FIELD))
+                adapter = getAdapter(in.nextString());
+
+            else if (!fieldName.equals(GeometryConstants.COORDINATES_JSON_FIELD))
+                in.skipValue();
+
+            // the coordinates can only be streamed if the type is already known
+            else if (adapter != null)
+                geo = adapter.readCoordinatesOrNull(in);
+
+            else
+                bufferedCoordinates = new JsonParser().parse(in);
+        }
+
+        in.endObject();
+
+        if (adapter == null)
+            throw new JsonParseException(GeometryConstants.MISSING_GEOMETRY_TYPE_ERROR);
+
+        // fallback: deserialize coordinates that preceded the type
+        if (bufferedCoordinates != null) {
+            final JsonObject geoJson = new JsonObject();
+            geoJson.add(GeometryConstants.COORDINATES_JSON_FIELD, bufferedCoordinates);
+            geo = adapter.deserialize(geoJson, null, null);
+        }
+
+        return geo;
+    }
+
+
+    /**
+     * Writes a {@linkplain Geometry} using an {@linkplain AbstractGeometryAdapter}
+     * that is responsible for its type.
+     *
+     * @param adapter the {@linkplain AbstractGeometryAdapter} that matches the type of the {@linkplain Geometry}
+     * @param out the {@linkplain JsonWriter} to which the {@linkplain Geometry} is written
+     * @param src the {@linkplain Geometry} that is to be serialized
+     * @param <T> the type of the {@linkplain Geometry}
+     *
+     * @throws IOException thrown when the {@linkplain JsonWriter} cannot be written to
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Geometry> void writeGeometry(final AbstractGeometryAdapter<T> adapter, final JsonWriter out, final Geometry src) throws IOException
+    {
+        adapter.writeGeometry(out, (T) src);
+    }
+
+
+    /**
+     * Retrieves the {@linkplain AbstractGeometryAdapter} that is responsible for
+     * a specified geometry type.
+     *
+     * @param geometryType the name of the geometry type
+     *
+     * @return the {@linkplain AbstractGeometryAdapter} of the geometry type
+     *
+     * @throws JsonParseException if the geometry type is not supported
+     */
+    private AbstractGeometryAdapter<? extends Geometry> getAdapter(final String geometryType)
+    {
+        final AbstractGeometryAdapter<? extends Geometry> adapter = adapterMap.get(geometryType.toLowerCase(locale));
+
+        if (adapter == null)
+            throw new JsonParseException(String.format(GeometryConstants.UNKNOWN_GEOMETRY_TYPE_ERROR, geometryType));
+
+        return adapter;
+    }
+}
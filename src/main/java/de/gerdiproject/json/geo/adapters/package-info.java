@@ -15,7 +15,8 @@
  *  under the License.
  */
 /**
- * This package contains {@link com.google.gson.JsonSerializer}s and {@linkplain com.google.gson.JsonDeserializer}s
+ * This package contains {@link com.google.gson.JsonSerializer}s, {@linkplain com.google.gson.JsonDeserializer}s, and streaming
+ * {@linkplain com.google.gson.TypeAdapter}s
  * for {@linkplain com.vividsolutions.jts.geom.Geometry} objects.
  *
  * @author Robin Weiss
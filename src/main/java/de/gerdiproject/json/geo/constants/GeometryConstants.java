@@ -37,10 +37,14 @@ public class GeometryConstants
     public static final String MULTI_POLYGON_TYPE = "MultiPolygon";
     public static final String GEOMETRY_COLLECTION_TYPE = "GeometryCollection";
 
+    public static final int INITIAL_COORDINATE_CAPACITY = 16;
+    public static final int MAX_ORDINATES = 3;
+
     public static final String TYPE_JSON_FIELD = "type";
     public static final String COORDINATES_JSON_FIELD = "coordinates";
     public static final String INVALID_DECIMALS_ERROR = "The number of decimal places must be greater than zero!";
     public static final String CANNOT_VALIDATE_ERROR = "Skipped GeoJson, because it cannot be validated: %s";
     public static final String CANNOT_VALIDATE_ERROR_SHORT = "Skipped %s GeoJson, because it cannot be validated.";
     public static final String UNKNOWN_GEOMETRY_TYPE_ERROR = "Unknown Geometry type '%s'.";
+    public static final String MISSING_GEOMETRY_TYPE_ERROR = "Cannot deserialize GeoJson, because it has no type.";
 }
@@ -16,13 +16,15 @@
  */
 package de.gerdiproject.json.geo.utils;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Envelope;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.LineString;
@@ -31,6 +33,7 @@ import com.vividsolutions.jts.geom.MultiPolygon;
 import com.vividsolutions.jts.geom.Polygon;
 import com.vividsolutions.jts.geom.TopologyException;
 import com.vividsolutions.jts.operation.polygonize.Polygonizer;
+import com.vividsolutions.jts.operation.union.UnaryUnionOp;
 
 import de.gerdiproject.json.GsonUtils;
 import de.gerdiproject.json.geo.constants.GeometryConstants;
@@ -51,6 +54,7 @@ public class GeometryCleaner
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(GeometryCleaner.class);
     private static final Gson GEO_GSON = GsonUtils.createGeoJsonGsonBuilder().create();
+    private static volatile ValidatedGeometryCache validatedGeometryCache;
 
     /**
      * Creates a valid representation of a specified {@linkplain Geometry} object.
@@ -68,48 +72,195 @@ public class GeometryCleaner
         if (geo == null)
             return null;
 
-        Geometry validGeo;
         final String geoType = geo.getGeometryType();
 
-        if (geoType.equalsIgnoreCase(GeometryConstants.POLYGON_TYPE) || geoType.equalsIgnoreCase(GeometryConstants.MULTI_POLYGON_TYPE)) {
-            // normalize valid polygons in order to fix wrongly ordered rings
-            if (geo.isValid())
-                validGeo = geo.norm();
-            else {
-                try {
-                    validGeo = validatePolygon(geo);
+        // disregard non-polygonial Geometries
+        if (!geoType.equalsIgnoreCase(GeometryConstants.POLYGON_TYPE) && !geoType.equalsIgnoreCase(GeometryConstants.MULTI_POLYGON_TYPE))
+            return geo;
 
-                } catch (TopologyException e) {
-                    // TopologyExceptions are an unfortunate, known issue in JTS and can happen in some cases
-                    if (LOGGER.isDebugEnabled())
-                        LOGGER.debug(String.format(GeometryConstants.CANNOT_VALIDATE_ERROR, GEO_GSON.toJson(geo)));
+        final ValidatedGeometryCache cache = validatedGeometryCache;
 
-                    else if (LOGGER.isInfoEnabled())
-                        LOGGER.info(String.format(GeometryConstants.CANNOT_VALIDATE_ERROR_SHORT, geo.getGeometryType()));
+        return cache == null
+               ? validatePolygonal(geo)
+               : cache.get(geo, GeometryCleaner::validatePolygonal);
+    }
 
-                    validGeo = null;
-                }
-            }
 
-        } else // disregard non-polygonial Geometries
-            validGeo = geo;
+    /**
+     * Enables or disables the caching of {@linkplain #validate(Geometry)} results, which avoids
+     * repairing recurring shapes more than once. This is disabled by default.
+     * Cached geometries are returned to all callers that validate an identical {@linkplain Geometry},
+     * and must therefore not be modified.
+     *
+     * @param cache a {@linkplain ValidatedGeometryCache} that holds validated geometries,
+     *          or null if geometries are always to be validated anew
+     */
+    public static void setValidatedGeometryCache(final ValidatedGeometryCache cache)
+    {
+        validatedGeometryCache = cache;
+    }
+
+
+    /**
+     * Retrieves the {@linkplain ValidatedGeometryCache} that is used by {@linkplain #validate(Geometry)}.
+     *
+     * @return the {@linkplain ValidatedGeometryCache} that holds validated geometries,
+     *          or null if geometries are always validated anew
+     */
+    public static ValidatedGeometryCache getValidatedGeometryCache()
+    {
+        return validatedGeometryCache;
+    }
+
+
+    /**
+     * Creates a valid and normalized representation of a {@linkplain Polygon} or {@linkplain MultiPolygon}.
+     *
+     * @param geo a possibly invalid {@linkplain Polygon} or {@linkplain MultiPolygon}
+     *
+     * @return a valid {@linkplain Geometry} object, or null if the object could not be validated
+     */
+    private static Geometry validatePolygonal(final Geometry geo)
+    {
+        Geometry validGeo;
+
+        // cheap checks come first, the full topology check is only done if they are inconclusive
+        final boolean isValid = !hasDegenerateEnvelope(geo) && (isConvexPolygon(geo) || geo.isValid());
+
+        // normalize valid polygons in order to fix wrongly ordered rings
+        if (isValid)
+            validGeo = geo.norm();
+        else {
+            try {
+                validGeo = validatePolygon(geo);
+
+            } catch (TopologyException e) {
+                // TopologyExceptions are an unfortunate, known issue in JTS and can happen in some cases
+                if (LOGGER.isDebugEnabled())
+                    LOGGER.debug(String.format(GeometryConstants.CANNOT_VALIDATE_ERROR, GEO_GSON.toJson(geo)));
+
+                else if (LOGGER.isInfoEnabled())
+                    LOGGER.info(String.format(GeometryConstants.CANNOT_VALIDATE_ERROR_SHORT, geo.getGeometryType()));
+
+                validGeo = null;
+            }
+        }
 
         return validGeo;
     }
 
 
+    /**
+     * Checks if any polygon of a {@linkplain Polygon} or {@linkplain MultiPolygon} has an
+     * exterior ring that spans no area, because all of its vertices lie on a horizontal or vertical line.
+     * Such polygons are always invalid.
+     *
+     * @param geo a {@linkplain Polygon} or {@linkplain MultiPolygon}
+     *
+     * @return true if the {@linkplain Geometry} is certainly invalid
+     */
+    private static boolean hasDegenerateEnvelope(final Geometry geo)
+    {
+        final int polygonCount = geo.getNumGeometries();
+
+        for (int i = 0; i < polygonCount; i++) {
+            final Geometry polygon = geo.getGeometryN(i);
+
+            if (!polygon.isEmpty()) {
+                final Envelope envelope = polygon.getEnvelopeInternal();
+
+                if (envelope.getWidth() == 0 || envelope.getHeight() == 0)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Checks if a {@linkplain Geometry} is a {@linkplain Polygon} without holes whose
+     * closed exterior ring is strictly convex, which makes it valid without further checks.
+     * This is the case if all vertices turn in the same direction, and the ring winds
+     * around its interior exactly once, meaning that the horizontal and vertical directions
+     * of its edges change their signs no more than twice.
+     * Rings with collinear or repeated vertices are not regarded as convex.
+     *
+     * @param geo a {@linkplain Polygon} or {@linkplain MultiPolygon}
+     *
+     * @return true if the {@linkplain Geometry} is certainly valid
+     */
+    private static boolean isConvexPolygon(final Geometry geo)
+    {
+        if (!(geo instanceof Polygon) || ((Polygon) geo).getNumInteriorRing() != 0)
+            return false;
+
+        final CoordinateSequence ring = ((Polygon) geo).getExteriorRing().getCoordinateSequence();
+        final int edgeCount = ring.size() - 1;
+
+        if (edgeCount < 3
+            || ring.getX(0) != ring.getX(edgeCount)
+            || ring.getY(0) != ring.getY(edgeCount))
+            return false;
+
+        double prevDx = ring.getX(0) - ring.getX(edgeCount - 1);
+        double prevDy = ring.getY(0) - ring.getY(edgeCount - 1);
+        double prevSignX = Math.signum(prevDx);
+        double prevSignY = Math.signum(prevDy);
+        double turnSign = 0;
+        int signChangesX = 0;
+        int signChangesY = 0;
+
+        for (int i = 0; i < edgeCount; i++) {
+            final double dx = ring.getX(i + 1) - ring.getX(i);
+            final double dy = ring.getY(i + 1) - ring.getY(i);
+
+            // all vertices must turn in the same direction
+            final double cross = Math.signum(prevDx * dy - prevDy * dx);
+
+            if (cross == 0 || Double.isNaN(cross) || turnSign != 0 && cross != turnSign)
+                return false;
+
+            turnSign = cross;
+
+            // count the direction reversals along both axes, disregarding axis-parallel edges
+            final double signX = Math.signum(dx);
+            final double signY = Math.signum(dy);
+
+            if (signX != 0) {
+                if (prevSignX != 0 && signX != prevSignX)
+                    signChangesX++;
+
+                prevSignX = signX;
+            }
+
+            if (signY != 0) {
+                if (prevSignY != 0 && signY != prevSignY)
+                    signChangesY++;
+
+                prevSignY = signY;
+            }
+
+            prevDx = dx;
+            prevDy = dy;
+        }
+
+        return signChangesX <= 2 && signChangesY <= 2;
+    }
+
+
     /**
      * Creates a valid representation of a specified {@linkplain Polygon} or {@linkplain MultiPolygon},
      * fixing self intersections and other inconsistencies.
+     * The validated parts of a {@linkplain MultiPolygon} are merged by a cascaded union.
      * @param geo a possibly invalid {@linkplain Polygon} or {@linkplain MultiPolygon}
      *
      * @return a validated {@linkplain Geometry} object
      */
     private static Geometry validatePolygon(final Geometry geo)
     {
-        Geometry mergedPoly = null;
-
         final int polygonCount = geo.getNumGeometries();
+        final List<Geometry> validPolygons = new ArrayList<>(polygonCount);
 
         for (int i = 0; i < polygonCount; i++) {
             final Polygon polygon = (Polygon)geo.getGeometryN(i);
@@ -128,14 +279,16 @@ public class GeometryCleaner
                 }
             }
 
-            if (mergedPoly == null)
-                mergedPoly = poly;
-
-            else if (poly != null)
-                mergedPoly = mergedPoly.union(poly);
+            if (poly != null)
+                validPolygons.add(poly);
         }
 
-        return mergedPoly;
+        // a single polygon does not need to be merged
+        if (validPolygons.size() == 1)
+            return validPolygons.get(0);
+
+        // unions neighbouring polygons in a tree, instead of growing a single, increasingly complex polygon
+        return UnaryUnionOp.union(validPolygons);
     }
 
 
@@ -179,29 +332,51 @@ public class GeometryCleaner
         final Polygonizer polygonizer = new Polygonizer();
         polygonizer.add(validateLineString(lineString));
 
-        final List<Polygon> polygons = (List<Polygon>)polygonizer.getPolygons();
-        Geometry polygonGeo;
+        final List<Geometry> polygons = new ArrayList<>((List<Polygon>)polygonizer.getPolygons());
 
         // check if polygon is invalid
         if (polygons.isEmpty())
-            polygonGeo = null;
+            return null;
 
         // fix multiple overlapping polygon shapes using sym difference
-        else {
-            final Iterator<Polygon> iter = polygons.iterator();
-            polygonGeo = iter.next();
+        return cascadedSymDifference(polygons);
+    }
 
-            while (iter.hasNext()) {
 
-                final Polygon hole = iter.next();
-                final Geometry mergedPoly = geometryToPolygon(polygonGeo.symDifference(hole));
+    /**
+     * Computes the symmetric difference of multiple polygons by combining pairs of them
+     * in a balanced tree, instead of combining each polygon with the growing result of
+     * all previous polygons. Since the symmetric difference is associative, the result is
+     * the same, but every intermediate operation involves polygons of similar complexity.
+     * If the combination of a pair is not polygonal, the first polygon of the pair is kept.
+     *
+     * @param polygons a non-empty list of {@linkplain Polygon}s or {@linkplain MultiPolygon}s,
+     *          which is modified by this method
+     *
+     * @return the symmetric difference of all polygons
+     */
+    private static Geometry cascadedSymDifference(final List<Geometry> polygons)
+    {
+        int remaining = polygons.size();
+
+        while (remaining > 1) {
+            int merged = 0;
+
+            for (int i = 0; i < remaining; i += 2) {
+                final Geometry left = polygons.get(i);
 
-                if (mergedPoly != null)
-                    polygonGeo = mergedPoly;
+                if (i + 1 == remaining)
+                    polygons.set(merged++, left);
+                else {
+                    final Geometry mergedPoly = geometryToPolygon(left.symDifference(polygons.get(i + 1)));
+                    polygons.set(merged++, mergedPoly == null ? left : mergedPoly);
+                }
             }
+
+            remaining = merged;
         }
 
-        return polygonGeo;
+        return polygons.get(0);
     }
 
 
@@ -0,0 +1,212 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.geo.utils;
+
+import java.util.function.Function;
+
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.Polygon;
+
+import de.gerdiproject.harvest.utils.cache.BoundedCache;
+import de.gerdiproject.harvest.utils.cache.EvictionPolicy;
+
+/**
+ * This class caches the results of {@linkplain GeometryCleaner#validate(Geometry)} for
+ * {@linkplain Polygon}s and {@linkplain com.vividsolutions.jts.geom.MultiPolygon}s,
+ * so that recurring shapes, such as country outlines, are only repaired once.
+ * Geometries are regarded as identical if they are of the same type and consist of
+ * the same two-dimensional coordinates in the same order.
+ * Unrepairable geometries are cached as well.
+ * The least recently used results are removed if the capacity is exceeded.
+ * <br>
+ * Cached geometries are shared by all callers and must not be modified.
+ *
+ * @author Robin Weiss
+ */
+public class ValidatedGeometryCache
+{
+    private final BoundedCache<GeometryFingerprint, Geometry> cache;
+
+
+    /**
+     * Constructor that creates an empty cache.
+     *
+     * @param capacity the maximum number of cached geometries
+     *
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ValidatedGeometryCache(final int capacity)
+    {
+        this.cache = new BoundedCache<>(capacity, EvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+
+    /**
+     * Retrieves the validated representation of a specified {@linkplain Geometry}.
+     * If no identical {@linkplain Geometry} was validated before, the validation is
+     * executed and its result is added to the cache.
+     *
+     * @param geo a possibly invalid {@linkplain Geometry}
+     * @param validation a function that validates the {@linkplain Geometry}
+     *
+     * @return the validated {@linkplain Geometry}, or null if it could not be validated
+     */
+    public Geometry get(final Geometry geo, final Function<Geometry, Geometry> validation)
+    {
+        return cache.get(new GeometryFingerprint(geo), (final GeometryFingerprint key) -> validation.apply(key.geometry));
+    }
+
+
+    /**
+     * Removes all validated geometries from the cache.
+     */
+    public void clear()
+    {
+        cache.clear();
+    }
+
+
+    /**
+     * Retrieves the number of validated geometries in the cache.
+     *
+     * @return the number of validated geometries in the cache
+     */
+    public int size()
+    {
+        return cache.size();
+    }
+
+
+    /**
+     * Retrieves the maximum number of cached geometries.
+     *
+     * @return the maximum number of cached geometries
+     */
+    public int getCapacity()
+    {
+        return cache.getCapacity();
+    }
+
+
+    /**
+     * Retrieves the number of times a validated {@linkplain Geometry} was retrieved from the cache.
+     *
+     * @return the number of times a validated {@linkplain Geometry} was retrieved from the cache
+     */
+    public long getHitCount()
+    {
+        return cache.getHitCount();
+    }
+
+
+    /**
+     * Retrieves the number of times a {@linkplain Geometry} had to be validated.
+     *
+     * @return the number of times a {@linkplain Geometry} had to be validated
+     */
+    public long getMissCount()
+    {
+        return cache.getMissCount();
+    }
+
+
+    /**
+     * This class wraps a {@linkplain Geometry} and identifies it by its type and
+     * two-dimensional coordinates. The hash is computed once by iterating the
+     * {@linkplain CoordinateSequence}s of all rings, without creating
+     * intermediate coordinate arrays.
+     *
+     * @author Robin Weiss
+     */
+    private static final class GeometryFingerprint
+    {
+        private final Geometry geometry;
+        private final int hash;
+
+
+        /**
+         * Constructor that computes the hash of a {@linkplain Geometry}.
+         *
+         * @param geometry a {@linkplain Polygon} or {@linkplain com.vividsolutions.jts.geom.MultiPolygon}
+         */
+        GeometryFingerprint(final Geometry geometry)
+        {
+            this.geometry = geometry;
+
+            int geoHash = geometry.getGeometryType().hashCode();
+            final int polygonCount = geometry.getNumGeometries();
+
+            for (int i = 0; i < polygonCount; i++) {
+                final Polygon polygon = (Polygon) geometry.getGeometryN(i);
+                geoHash = hashRing(geoHash, polygon.getExteriorRing());
+
+                final int holeCount = polygon.getNumInteriorRing();
+
+                for (int j = 0; j < holeCount; j++)
+                    geoHash = hashRing(geoHash, polygon.getInteriorRingN(j));
+            }
+
+            this.hash = geoHash;
+        }
+
+
+        /**
+         * Adds the size and the two-dimensional coordinates of a ring to a hash.
+         *
+         * @param hash the hash of all previous rings
+         * @param ring the ring of which the coordinates are added to the hash
+         *
+         * @return the combined hash
+         */
+        private static int hashRing(final int hash, final LineString ring)
+        {
+            final CoordinateSequence sequence = ring.getCoordinateSequence();
+            final int size = sequence.size();
+            int ringHash = 31 * hash + size;
+
+            for (int i = 0; i < size; i++) {
+                ringHash = 31 * ringHash + Double.hashCode(sequence.getX(i));
+                ringHash = 31 * ringHash + Double.hashCode(sequence.getY(i));
+            }
+
+            return ringHash;
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+
+        @Override
+        public boolean equals(final Object obj)
+        {
+            if (this == obj)
+                return true;
+
+            if (!(obj instanceof GeometryFingerprint))
+                return false;
+
+            final GeometryFingerprint other = (GeometryFingerprint) obj;
+            return hash == other.hash && geometry.equalsExact(other.geometry);
+        }
+    }
+}
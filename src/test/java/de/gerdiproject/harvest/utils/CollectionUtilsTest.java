@@ -0,0 +1,223 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.gerdiproject.harvest.ICleanable;
+import de.gerdiproject.harvest.utils.cache.FlyweightCache;
+import de.gerdiproject.json.datacite.DataCiteJson;
+import de.gerdiproject.json.datacite.Date;
+import de.gerdiproject.json.datacite.Rights;
+import de.gerdiproject.json.datacite.Title;
+import de.gerdiproject.json.datacite.enums.DateType;
+import de.gerdiproject.json.datacite.nested.Publisher;
+
+/**
+ * This class provides test cases for the {@linkplain CollectionUtils}.
+ *
+ * @author Robin Weiss
+ */
+public class CollectionUtilsTest
+{
+    private static final int ELEMENT_COUNT = 200;
+    private static ForkJoinPool executor;
+
+
+    /**
+     * Creates the executor that is used for concurrent cleaning.
+     */
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = new ForkJoinPool(4);
+    }
+
+
+    /**
+     * Shuts down the executor that is used for concurrent cleaning.
+     */
+    @AfterClass
+    public static void shutdownExecutor()
+    {
+        executor.shutdown();
+    }
+
+
+    /**
+     * Tests if concurrently cleaned elements are added to a set
+     * exactly like sequentially cleaned elements.
+     */
+    @Test
+    public void testConcurrentAddToSet()
+    {
+        assertEquals("Concurrent cleaning should result in the same set as sequential cleaning; ",
+                     CollectionUtils.addToSet(null, createTestElements()),
+                     CollectionUtils.addToSet(null, createTestElements(), executor));
+    }
+
+
+    /**
+     * Tests if concurrently cleaned elements are added to a list
+     * exactly like sequentially cleaned elements.
+     */
+    @Test
+    public void testConcurrentAddToList()
+    {
+        assertEquals("Concurrent cleaning should result in the same list as sequential cleaning; ",
+                     CollectionUtils.addToList(null, createTestElements()),
+                     CollectionUtils.addToList(null, createTestElements(), executor));
+    }
+
+
+    /**
+     * Tests if equal {@linkplain de.gerdiproject.harvest.IFlyweight}s that are added to different sets
+     * are replaced by the same canonical instance.
+     */
+    @Test
+    public void testFlyweightAddToSet()
+    {
+        final FlyweightCache cache = new FlyweightCache(16);
+        CollectionUtils.setFlyweightCache(cache);
+
+        try {
+            final Set<Rights> firstSet = CollectionUtils.addToSet(null, Arrays.asList(new Rights("CC BY 4.0")));
+            final Set<Rights> secondSet = CollectionUtils.addToSet(null, Arrays.asList(new Rights(" CC BY 4.0 ")));
+
+            assertSame("Equal rights should be replaced by the same instance; ",
+                       firstSet.iterator().next(),
+                       secondSet.iterator().next());
+            assertEquals("Retrieving the canonical instance should count as a hit; ", 1L, cache.getHitCount());
+        } finally {
+            CollectionUtils.setFlyweightCache(null);
+        }
+    }
+
+
+    /**
+     * Tests if modifying a canonical {@linkplain de.gerdiproject.harvest.IFlyweight}
+     * that was retrieved from one document is rejected and does not affect
+     * another document.
+     */
+    @Test
+    public void testFlyweightModification()
+    {
+        CollectionUtils.setFlyweightCache(new FlyweightCache(16));
+
+        try {
+            final DataCiteJson firstDoc = new DataCiteJson("first");
+            final DataCiteJson secondDoc = new DataCiteJson("second");
+            firstDoc.setPublisher(new Publisher("GeRDI"));
+            secondDoc.setPublisher(new Publisher("GeRDI"));
+
+            try {
+                firstDoc.getPublisher().setLang("en");
+                throw new AssertionError("Modifying a shared publisher should throw an exception; ");
+            } catch (final UnsupportedOperationException e) { // NOPMD the exception is expected
+            }
+
+            assertNull("Modifying the publisher of one document should not affect other documents; ",
+                       secondDoc.getPublisher().getLang());
+        } finally {
+            CollectionUtils.setFlyweightCache(null);
+        }
+    }
+
+
+    /**
+     * Tests if elements that were changed after being added to a list are still
+     * found by the list and are still recognized as duplicates.
+     */
+    @Test
+    public void testChangedListElement()
+    {
+        final Title title = new Title("Old title");
+        final List<Title> list = CollectionUtils.addToList(null, Arrays.asList(title));
+        title.setValue("New title");
+
+        assertTrue("A changed element should still be contained in the list; ", list.contains(new Title("New title")));
+
+        CollectionUtils.addToList(list, Arrays.asList(new Title("New title")));
+        assertEquals("An element that equals a changed element should be a duplicate; ", 1, list.size());
+
+        assertTrue("A changed element should be removable; ", list.remove(new Title("New title")));
+    }
+
+
+    /**
+     * Tests if an instance that occurs multiple times in a concurrently cleaned batch
+     * is only cleaned once, but is still retained at every position.
+     */
+    @Test
+    public void testConcurrentCleanRepeatedInstance()
+    {
+        final AtomicInteger cleanCount = new AtomicInteger();
+        final ICleanable element = () -> cleanCount.incrementAndGet() > 0;
+
+        final List<ICleanable> cleanedElements = CollectionUtils.cleanAll(Arrays.asList(element, element, element), executor);
+
+        assertEquals("A repeated instance should only be cleaned once; ", 1, cleanCount.get());
+        assertEquals("A repeated instance should be retained at every position; ", 3, cleanedElements.size());
+    }
+
+
+    /**
+     * Creates a list of {@linkplain ICleanable}s that contains null elements,
+     * invalid elements, and elements that are only duplicates after being cleaned.
+     *
+     * @return a list of {@linkplain ICleanable}s
+     */
+    private static List<ICleanable> createTestElements()
+    {
+        final List<ICleanable> elements = new ArrayList<>();
+
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            switch (i % 4) {
+                case 0:
+                    elements.add(new Title(String.format("  title %d  ", i % 10)));
+                    break;
+
+                case 1:
+                    elements.add(new Date(String.valueOf(1900 + i), DateType.Issued));
+                    break;
+
+                case 2:
+                    elements.add(new Date("no date " + i, DateType.Issued));
+                    break;
+
+                default:
+                    elements.add(null);
+            }
+        }
+
+        return elements;
+    }
+}
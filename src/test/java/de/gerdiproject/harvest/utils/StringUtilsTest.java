@@ -0,0 +1,107 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * This class provides test cases for the {@linkplain StringUtils} class.
+ * Multiple runs with varying input Strings are executed in order to cover
+ * escapes, whitespaces and HTML tags.
+ *
+ * @author Robin Weiss
+ */
+@RunWith(Parameterized.class)
+public class StringUtilsTest
+{
+    private final String input;
+    private final String expectedOutput;
+
+
+    @Parameters(name = "input: {0}")
+    public static Collection<Object[]> getParameters()
+    {
+        return Arrays.asList(new Object[][] {
+                                 {"Already clean", "Already clean"},
+                                 {"Line\nbreak", "Line\nbreak"},
+                                 {"  trimmed\t", "trimmed"},
+                                 {"merged \n\t whitespaces", "merged whitespaces"},
+                                 {"non\u00A0breaking\u00A0 space", "non breaking space"},
+                                 {"escaped&nbsp;non-breaking &nbsp; space", "escaped non-breaking space"},
+                                 {"double escaped&amp;nbsp;space", "double escaped space"},
+                                 {"&lt;&quot;&eacute;&amp;&gt;", "<\"\u00E9&>"},
+                                 {"&#65;&#x42;&#X43;&#65536;", "ABC\uD800\uDC00"},
+                                 {"&#32;&#32;escaped spaces&#9;", "escaped spaces"},
+                                 {"&&amp;", "&&"},
+                                 {"&Alpha;&hellip;&fjlig;&NotEqualTilde;", "\u0391\u2026fj\u2242\u0338"},
+                                 {"&CounterClockwiseContourIntegral;&#x1D504;", "\u2233\uD835\uDD04"},
+                                 {"<b>x</b>&notit &not", "x&notit \u00AC"},
+                                 {"&unknown; & &#xZZ; &#;", "&unknown; & &#xZZ; &#;"},
+                                 {"<p>Some <b>bold</b>&nbsp;text</p>", "Some bold text"},
+                                 {"a < b", "a < b"},
+                                 {"<ul><li>One</li><li>Two</li></ul>Three<br>Four", "One Two Three Four"},
+                                 {"<a href=\"x?a=1&b=2\" title='a>b'>R&D</a>", "R&D"},
+                                 {"<!-- comment --><table><tr><td>Cell</td></tr></table>", "Cell"},
+                                 {"<p>Unclosed<p>paragraphs", "Unclosed paragraphs"},
+                                 {"<b>don&#146;t &#150; 1&#128;</b>", "don\u2019t \u2013 1\u20AC"},
+                                 {"<i>x</i> &#x96;&#x81;", "x \u2013\u0081"}
+                             });
+    }
+
+
+    /**
+     * Constructor that sets up a single test run.
+     *
+     * @param input the String that is to be cleaned
+     * @param expectedOutput the expected result of the cleaning
+     */
+    public StringUtilsTest(final String input, final String expectedOutput)
+    {
+        this.input = input;
+        this.expectedOutput = expectedOutput;
+    }
+
+
+    @Test
+    public void testClean()
+    {
+        assertEquals("The method clean() should return the expected String; ",
+                     expectedOutput,
+                     StringUtils.clean(input));
+    }
+
+
+    @Test
+    public void testCleanReturnsSameInstance()
+    {
+        assumeTrue(input.equals(expectedOutput));
+
+        assertSame("The method clean() should return the input String if it is already clean; ",
+                   input,
+                   StringUtils.clean(input));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * This class provides test cases for the {@linkplain BoundedCache}.
+ *
+ * @author Robin Weiss
+ */
+public class BoundedCacheTest
+{
+    /**
+     * Tests if a cached value is only computed once and counted as a hit afterwards.
+     */
+    @Test
+    public void testHitsAndMisses()
+    {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED);
+        final AtomicInteger computations = new AtomicInteger();
+        final Function<String, Integer> computation = (final String key) -> {
+            computations.incrementAndGet();
+            return key.length();
+        };
+
+        cache.get("abc", computation);
+        cache.get("abc", computation);
+        assertEquals("The value 3 should have been retrieved from the cache; ", Integer.valueOf(3), cache.get("abc", computation));
+
+        assertEquals("The value should only have been computed once; ", 1, computations.get());
+        assertEquals("Retrieving a value twice from the cache should count as two hits; ", 2L, cache.getHitCount());
+        assertEquals("Computing a value once should count as one miss; ", 1L, cache.getMissCount());
+    }
+
+
+    /**
+     * Tests if null results are cached and not computed again.
+     */
+    @Test
+    public void testNullValues()
+    {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED);
+        final AtomicInteger computations = new AtomicInteger();
+        final Function<String, Integer> computation = (final String key) -> {
+            computations.incrementAndGet();
+            return null;
+        };
+
+        cache.get("abc", computation);
+        assertNull("A cached null value should be retrieved as null; ", cache.get("abc", computation));
+        assertEquals("A null value should only have been computed once; ", 1, computations.get());
+    }
+
+
+    /**
+     * Tests if the least recently retrieved entry is removed when the capacity
+     * of a cache with the {@linkplain EvictionPolicy#LEAST_RECENTLY_USED} policy is exceeded.
+     */
+    @Test
+    public void testLeastRecentlyUsedEviction()
+    {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED);
+        cache.get("a", String::length);
+        cache.get("bb", String::length);
+        cache.get("a", String::length);
+        cache.get("ccc", String::length);
+        cache.get("a", String::length);
+
+        assertEquals("Exceeding the capacity should remove one entry; ", 1L, cache.getEvictionCount());
+        assertEquals("The recently retrieved entry 'a' should not have been removed; ", 2L, cache.getHitCount());
+        assertEquals("The cache should not exceed its capacity; ", 2, cache.size());
+    }
+
+
+    /**
+     * Tests if the oldest entry is removed when the capacity
+     * of a cache with the {@linkplain EvictionPolicy#FIRST_IN_FIRST_OUT} policy is exceeded.
+     */
+    @Test
+    public void testFirstInFirstOutEviction()
+    {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy.FIRST_IN_FIRST_OUT);
+        cache.get("a", String::length);
+        cache.get("bb", String::length);
+        cache.get("a", String::length);
+        cache.get("ccc", String::length);
+        cache.get("a", String::length);
+
+        assertEquals("The oldest entry 'a' should have been removed despite being retrieved; ", 1L, cache.getHitCount());
+        assertEquals("Exceeding the capacity twice should remove two entries; ", 2L, cache.getEvictionCount());
+    }
+
+
+    /**
+     * Tests if a capacity of zero is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity()
+    {
+        new BoundedCache<String, Integer>(0, EvictionPolicy.FIRST_IN_FIRST_OUT);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * This class provides test cases for the {@linkplain StringInterner}.
+ *
+ * @author Robin Weiss
+ */
+public class StringInternerTest
+{
+    /**
+     * Tests if equal strings are replaced by the first interned instance.
+     */
+    @Test
+    public void testCanonicalInstance()
+    {
+        final StringInterner interner = new StringInterner(16);
+        final String canonical = new String("GFZ Data Services"); // NOPMD the instances must differ
+        final String duplicate = new String("GFZ Data Services"); // NOPMD the instances must differ
+
+        interner.intern(canonical);
+        assertSame("Interning an equal string should return the canonical instance; ", canonical, interner.intern(duplicate));
+        assertEquals("Interning a string for the first time should count as a miss; ", 1L, interner.getMissCount());
+        assertEquals("Retrieving the canonical instance should count as a hit; ", 1L, interner.getHitCount());
+    }
+
+
+    /**
+     * Tests if the capacity is rounded up to the next power of two.
+     */
+    @Test
+    public void testCapacityRounding()
+    {
+        assertEquals("The capacity should be rounded up to a power of two; ", 16, new StringInterner(9).getCapacity());
+    }
+
+
+    /**
+     * Tests if a negative capacity is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity()
+    {
+        new StringInterner(-1);
+    }
+}
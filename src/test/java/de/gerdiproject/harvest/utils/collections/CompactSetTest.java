@@ -0,0 +1,81 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.harvest.utils.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Test;
+
+import de.gerdiproject.harvest.constants.CollectionConstants;
+
+/**
+ * This class provides test cases for the {@linkplain CompactSet}.
+ *
+ * @author Robin Weiss
+ */
+public class CompactSetTest
+{
+    private static final int ELEMENT_COUNT = CollectionConstants.COMPACT_SET_THRESHOLD * 2;
+
+
+    /**
+     * Tests if the set equals a {@linkplain HashSet} with the same elements
+     * before and after exceeding the compact size threshold.
+     */
+    @Test
+    public void testEqualsHashSet()
+    {
+        final Set<Integer> compactSet = new CompactSet<>();
+        final Set<Integer> hashSet = new HashSet<>();
+
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            compactSet.add(i % 3 == 0 ? 0 : i);
+            hashSet.add(i % 3 == 0 ? 0 : i);
+
+            assertEquals("The set should equal a HashSet with the same elements; ", hashSet, compactSet);
+            assertEquals("The hash code should equal that of a HashSet with the same elements; ", hashSet.hashCode(), compactSet.hashCode());
+        }
+    }
+
+
+    /**
+     * Tests if elements can be removed via the iterator of a compact set.
+     */
+    @Test
+    public void testIteratorRemove()
+    {
+        final Set<String> compactSet = new CompactSet<>();
+        compactSet.add("a");
+        compactSet.add("b");
+        compactSet.add("c");
+
+        final Iterator<String> iter = compactSet.iterator();
+
+        while (iter.hasNext()) {
+            if (iter.next().equals("b"))
+                iter.remove();
+        }
+
+        assertEquals("Removing one of three elements should leave two elements; ", 2, compactSet.size());
+        assertFalse("The removed element should no longer be in the set; ", compactSet.contains("b"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json;
+
+import static org.junit.Assert.assertNull;
+
+import java.time.DateTimeException;
+
+import org.junit.Test;
+
+/**
+ * This class provides test cases for the {@linkplain DateRangeUtils}.
+ *
+ * @author Robin Weiss
+ */
+public class DateRangeUtilsTest
+{
+    private static final String INVALID_DATE = "2019-02-29";
+
+
+    /**
+     * Tests if an invalid calendar date cannot be parsed, which is the
+     * precondition of {@linkplain #testSkippedInvalidDate()}.
+     */
+    @Test(expected = DateTimeException.class)
+    public void testInvalidDate()
+    {
+        DateUtils.parseDate(INVALID_DATE);
+    }
+
+
+    /**
+     * Tests if a range whose sides differ too much in length is discarded without
+     * parsing the end date, so that an invalid end date does not cause an exception.
+     */
+    @Test
+    public void testSkippedInvalidDate()
+    {
+        assertNull("A range with radically different sides should not be parsed; ",
+                   DateRangeUtils.parseDateRange("foo/" + INVALID_DATE));
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import de.gerdiproject.json.datacite.DataCiteJson;
+import de.gerdiproject.json.datacite.Date;
+import de.gerdiproject.json.datacite.GeoLocation;
+import de.gerdiproject.json.datacite.Title;
+import de.gerdiproject.json.datacite.abstr.AbstractDate;
+import de.gerdiproject.json.datacite.enums.DateType;
+
+/**
+ * This class provides test cases for the {@linkplain BulkJsonReader}.
+ *
+ * @author Robin Weiss
+ */
+public class BulkJsonReaderTest
+{
+    private static final int DOCUMENT_COUNT = 5;
+
+
+    /**
+     * Tests if documents that were written by a {@linkplain BulkJsonWriter}
+     * are read one by one.
+     *
+     * @throws IOException thrown if the documents could not be written or read
+     */
+    @Test
+    public void testReadNdJson() throws IOException
+    {
+        final List<DataCiteJson> documents = createTestDocuments();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(out)) {
+            bulkWriter.writeAll(documents);
+        }
+
+        final List<String> readJsons = new ArrayList<>();
+
+        try (BulkJsonReader<DataCiteJson> bulkReader = BulkJsonReader.forDataCiteJson(new ByteArrayInputStream(out.toByteArray()))) {
+            while (bulkReader.hasNext())
+                readJsons.add(bulkReader.next().toJson());
+        }
+
+        assertEquals("Each NDJSON line should be read as a document; ", toJsons(documents), readJsons);
+    }
+
+
+    /**
+     * Tests if the elements of a JSON array are read one by one.
+     *
+     * @throws IOException thrown if the documents could not be read
+     */
+    @Test
+    public void testReadArray() throws IOException
+    {
+        final List<DataCiteJson> documents = createTestDocuments();
+        final String jsonArray = toJsons(documents).stream().collect(Collectors.joining(",", "[", "]"));
+
+        try (BulkJsonReader<DataCiteJson> bulkReader = BulkJsonReader.forDataCiteJson(new StringReader(jsonArray))) {
+            assertEquals("Each array element should be read as a document; ",
+                         toJsons(documents),
+                         toJsons(bulkReader.stream().collect(Collectors.toList())));
+        }
+    }
+
+
+    /**
+     * Tests if empty or whitespace-only input, which is what the {@linkplain BulkJsonWriter}
+     * produces if no documents are written, is read as zero documents.
+     *
+     * @throws IOException thrown if the documents could not be read
+     */
+    @Test
+    public void testReadEmpty() throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(out)) {
+            bulkWriter.writeAll(new ArrayList<DataCiteJson>());
+        }
+
+        for (final String emptyInput : Arrays.asList(new String(out.toByteArray(), StandardCharsets.UTF_8), "  \n")) {
+            try (BulkJsonReader<DataCiteJson> bulkReader = BulkJsonReader.forDataCiteJson(new StringReader(emptyInput))) {
+                assertFalse("Empty input should not contain any documents; ", bulkReader.hasNext());
+                assertFalse("Empty input should not contain any documents after repeated checks; ", bulkReader.hasNext());
+            }
+        }
+    }
+
+
+    /**
+     * Serializes documents to JSON.
+     *
+     * @param documents the documents that are to be serialized
+     *
+     * @return a list of JSON representations of the documents
+     */
+    private static List<String> toJsons(final List<DataCiteJson> documents)
+    {
+        return documents.stream().map(DataCiteJson::toJson).collect(Collectors.toList());
+    }
+
+
+    /**
+     * Creates a list of documents with fields that require custom adapters.
+     *
+     * @return a list of documents
+     */
+    private static List<DataCiteJson> createTestDocuments()
+    {
+        final List<DataCiteJson> documents = new ArrayList<>();
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            final DataCiteJson doc = new DataCiteJson("source" + i);
+            doc.setPublicationYear(2000 + i);
+            doc.addTitles(Arrays.asList(new Title("Document " + i)));
+            doc.addDates(Arrays.<AbstractDate>asList(new Date(1546398245000L + i, DateType.Created)));
+
+            final GeoLocation geoLocation = new GeoLocation("Kiel");
+            geoLocation.setPoint(10.0 + i, 54.3233);
+            doc.addGeoLocations(Arrays.asList(geoLocation));
+
+            documents.add(doc);
+        }
+
+        return documents;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSerializer;
+
+import de.gerdiproject.json.GsonUtils;
+import de.gerdiproject.json.bulk.constants.BulkJsonConstants;
+import de.gerdiproject.json.datacite.DataCiteJson;
+import de.gerdiproject.json.datacite.Title;
+
+/**
+ * This class provides test cases for the {@linkplain BulkJsonWriter}.
+ *
+ * @author Robin Weiss
+ */
+public class BulkJsonWriterTest
+{
+    private static final int DOCUMENT_COUNT = 5;
+
+
+    /**
+     * Tests if each document is written as a single line that equals
+     * the document's JSON representation.
+     *
+     * @throws IOException thrown if the documents could not be written
+     */
+    @Test
+    public void testDocumentLines() throws IOException
+    {
+        final List<DataCiteJson> documents = createTestDocuments();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(out)) {
+            bulkWriter.writeAll(documents);
+        }
+
+        final StringBuilder expected = new StringBuilder();
+
+        for (final DataCiteJson doc : documents)
+            expected.append(doc.toJson()).append('\n');
+
+        assertEquals("The bulk writer should write one JSON document per line; ",
+                     expected.toString(),
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Tests if each document is preceded by an ElasticSearch bulk action line
+     * that contains the source ID of the document, if an action is set.
+     *
+     * @throws IOException thrown if the documents could not be written
+     */
+    @Test
+    public void testActionLines() throws IOException
+    {
+        final List<DataCiteJson> documents = createTestDocuments();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(out)) {
+            bulkWriter.setAction(BulkJsonConstants.INDEX_ACTION);
+            bulkWriter.setIndex("gerdi");
+            bulkWriter.writeAll(documents.stream());
+        }
+
+        final StringBuilder expected = new StringBuilder();
+
+        for (final DataCiteJson doc : documents) {
+            expected.append("{\"index\":{\"_index\":\"gerdi\",\"_id\":\"")
+                    .append(doc.getSourceId())
+                    .append("\"}}\n")
+                    .append(doc.toJson())
+                    .append('\n');
+        }
+
+        assertEquals("The bulk writer should precede each document by an action line; ",
+                     expected.toString(),
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Tests if a document that fails to be serialized leaves neither a partial line
+     * nor its action line behind, and does not corrupt subsequent documents.
+     *
+     * @throws IOException thrown if the documents could not be written
+     */
+    @Test
+    public void testFailedDocument() throws IOException
+    {
+        final List<DataCiteJson> documents = createTestDocuments();
+        final DataCiteJson failingDocument = documents.get(0);
+
+        // fail within the document, after its first fields were written
+        final Gson gson = GsonUtils.createGerdiDocumentStreamingGsonBuilder()
+                          .registerTypeAdapter(Title.class, (JsonSerializer<Title>)(src, type, context) -> {
+                              if (failingDocument.getTitles().contains(src))
+                                  throw new JsonParseException("test failure");
+
+                              return context.serialize(src.getValue());
+                          })
+                          .create();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(out, gson)) {
+            bulkWriter.setAction(BulkJsonConstants.INDEX_ACTION);
+
+            try {
+                bulkWriter.write(failingDocument);
+                fail("The serialization error should be passed on; ");
+            } catch (final JsonParseException e) { // NOPMD the exception is expected
+            }
+
+            bulkWriter.write(documents.get(1));
+        }
+
+        final JsonElement expectedDocument = gson.toJsonTree(documents.get(1));
+
+        assertEquals("A failed document should not leave any output behind; ",
+                     "{\"index\":{\"_id\":\"" + documents.get(1).getSourceId() + "\"}}\n" + gson.toJson(expectedDocument) + "\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Tests if batches are completed when the document threshold is reached
+     * and if the reported byte counts sum up to the number of written bytes.
+     *
+     * @throws IOException thrown if the documents could not be written
+     */
+    @Test
+    public void testBatchReports() throws IOException
+    {
+        final List<BulkBatchInfo> batches = new ArrayList<>();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(out)) {
+            bulkWriter.setMaxBatchDocuments(2);
+            bulkWriter.setBatchListener(batches::add);
+            bulkWriter.writeAll(createTestDocuments());
+        }
+
+        assertEquals("Five documents with a threshold of two should result in three batches; ",
+                     Arrays.asList(2, 2, 1),
+                     Arrays.asList(batches.get(0).getDocumentCount(),
+                                   batches.get(1).getDocumentCount(),
+                                   batches.get(2).getDocumentCount()));
+
+        final long byteSum = batches.stream().mapToLong(BulkBatchInfo::getByteCount).sum();
+        assertEquals("The reported byte counts should sum up to the number of written bytes; ",
+                     out.size(),
+                     byteSum);
+    }
+
+
+    /**
+     * Tests if each document is written in its own batch if the byte threshold
+     * is smaller than a single document.
+     *
+     * @throws IOException thrown if the documents could not be written
+     */
+    @Test
+    public void testByteThreshold() throws IOException
+    {
+        final List<BulkBatchInfo> batches = new ArrayList<>();
+
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(new ByteArrayOutputStream())) {
+            bulkWriter.setMaxBatchBytes(1);
+            bulkWriter.setBatchListener(batches::add);
+            bulkWriter.writeAll(createTestDocuments());
+        }
+
+        assertEquals("Each document should be written in its own batch if the byte threshold is exceeded; ",
+                     DOCUMENT_COUNT,
+                     batches.size());
+    }
+
+
+    /**
+     * Tests if setting a batch threshold that is not greater than zero
+     * causes an {@linkplain IllegalArgumentException}.
+     *
+     * @throws IOException thrown if the writer could not be closed
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() throws IOException
+    {
+        try (BulkJsonWriter bulkWriter = new BulkJsonWriter(new ByteArrayOutputStream())) {
+            bulkWriter.setMaxBatchDocuments(0);
+        }
+    }
+
+
+    /**
+     * Creates a list of simple {@linkplain DataCiteJson}s.
+     *
+     * @return a list of {@linkplain DataCiteJson}s
+     */
+    private static List<DataCiteJson> createTestDocuments()
+    {
+        final List<DataCiteJson> documents = new ArrayList<>();
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            final DataCiteJson doc = new DataCiteJson("source" + i);
+            doc.setPublicationYear(2000 + i);
+            doc.addTitles(Arrays.asList(new Title("Document äöü " + i)));
+            documents.add(doc);
+        }
+
+        return documents;
+    }
+}
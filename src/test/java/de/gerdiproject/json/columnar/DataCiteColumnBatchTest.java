@@ -0,0 +1,137 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.columnar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+
+import de.gerdiproject.json.datacite.DataCiteJson;
+import de.gerdiproject.json.datacite.Date;
+import de.gerdiproject.json.datacite.DateRange;
+import de.gerdiproject.json.datacite.GeoLocation;
+import de.gerdiproject.json.datacite.ResourceType;
+import de.gerdiproject.json.datacite.abstr.AbstractDate;
+import de.gerdiproject.json.datacite.enums.DateType;
+import de.gerdiproject.json.datacite.enums.ResourceTypeGeneral;
+import de.gerdiproject.json.datacite.nested.Publisher;
+
+/**
+ * This class provides test cases for the {@linkplain DataCiteColumnBatch}.
+ *
+ * @author Robin Weiss
+ */
+public class DataCiteColumnBatchTest
+{
+    private static final int DOCUMENT_COUNT = 50;
+
+
+    /**
+     * Tests if documents that are restored from a batch are serialized like the original documents.
+     */
+    @Test
+    public void testRoundTrip()
+    {
+        final DataCiteColumnBatch batch = new DataCiteColumnBatch();
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++)
+            batch.add(createTestDocument(i));
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            assertEquals("A restored document should be serialized like the original document; ",
+                         createTestDocument(i).toJson(),
+                         batch.get(i).toJson());
+        }
+    }
+
+
+    /**
+     * Tests if the fields of documents can be read from the columns.
+     */
+    @Test
+    public void testColumnAccess()
+    {
+        final DataCiteColumnBatch batch = DataCiteColumnBatch.of(Arrays.asList(createTestDocument(7)));
+
+        assertEquals("The publication year should be readable from its column; ", 2007, batch.getPublicationYear(0));
+        assertEquals("The date count should be readable from the offsets; ", 2, batch.getDateCount(0));
+        assertEquals("The longitude should be readable from its column; ", 10.7, batch.getLongitude(0, 0), 0.0);
+        assertEquals("The general resource type should be readable from its column; ",
+                     ResourceTypeGeneral.Dataset,
+                     batch.getResourceTypeGeneral(0));
+    }
+
+
+    /**
+     * Tests if recurring Strings are stored only once.
+     */
+    @Test
+    public void testDictionaryEncoding()
+    {
+        final DataCiteColumnBatch batch = new DataCiteColumnBatch();
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++)
+            batch.add(createTestDocument(i));
+
+        // publisher, its language, resource type, date information, and place
+        assertEquals("Recurring Strings should be stored only once; ", 5, batch.getDistinctStringCount());
+    }
+
+
+    /**
+     * Creates a {@linkplain DataCiteJson} with all fields that are stored in a {@linkplain DataCiteColumnBatch}.
+     *
+     * @param index a number that distinguishes the document from other test documents
+     *
+     * @return a {@linkplain DataCiteJson} with all stored fields set
+     */
+    private static DataCiteJson createTestDocument(final int index)
+    {
+        final DataCiteJson document = new DataCiteJson("source" + index);
+        document.setPublicationYear(2000 + index);
+        document.setPublisher(new Publisher("Test Publisher", "en"));
+        document.setResourceType(new ResourceType("Measurements", ResourceTypeGeneral.Dataset));
+
+        final Date date = new Date(1546398245000L + index, DateType.Created);
+        date.setInformation("creation of the data");
+        document.addDates(Arrays.<AbstractDate>asList(
+                              date,
+                              new DateRange("1990", null, DateType.Collected)));
+
+        final GeometryFactory factory = new GeometryFactory();
+        final Geometry polygon = factory.createPolygon(new Coordinate[] {
+                                                           new Coordinate(0, 0),
+                                                           new Coordinate(index + 1, 0),
+                                                           new Coordinate(0, 1),
+                                                           new Coordinate(0, 0)
+                                                       });
+
+        final GeoLocation geoLocation = new GeoLocation("Kiel");
+        geoLocation.setPoint(10.0 + index / 10.0, 54.3233);
+        geoLocation.setBox(10.0, 10.5, 54.0, 54.5);
+        geoLocation.addPolygons(Arrays.asList(polygon));
+        document.addGeoLocations(Arrays.asList(geoLocation));
+
+        return document;
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.datacite;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+import de.gerdiproject.harvest.utils.StringUtils;
+import de.gerdiproject.harvest.utils.cache.StringInterner;
+import de.gerdiproject.json.GsonUtils;
+import de.gerdiproject.json.datacite.abstr.AbstractDate;
+import de.gerdiproject.json.datacite.enums.DateType;
+import de.gerdiproject.json.datacite.enums.DescriptionType;
+import de.gerdiproject.json.datacite.enums.FunderIdentifierType;
+import de.gerdiproject.json.datacite.enums.TitleType;
+import de.gerdiproject.json.datacite.extension.generic.AbstractResearch;
+import de.gerdiproject.json.datacite.extension.generic.WebLink;
+import de.gerdiproject.json.datacite.extension.generic.constants.ResearchAreaConstants;
+import de.gerdiproject.json.datacite.extension.generic.constants.ResearchDisciplineConstants;
+import de.gerdiproject.json.datacite.extension.generic.enums.WebLinkType;
+import de.gerdiproject.json.datacite.extension.soep.SoepDataCiteExtension;
+import de.gerdiproject.json.datacite.extension.soep.SoepVariable;
+import de.gerdiproject.json.datacite.nested.Affiliation;
+import de.gerdiproject.json.datacite.nested.FunderIdentifier;
+import de.gerdiproject.json.datacite.nested.NameIdentifier;
+import de.gerdiproject.json.datacite.nested.Publisher;
+
+/**
+ * This class provides test cases for the {@linkplain DataCiteJson} class.
+ *
+ * @author Robin Weiss
+ */
+public class DataCiteJsonTest
+{
+    private static final String SOURCE_ID = "testSourceId";
+
+
+    /**
+     * Tests if the streaming serialization of a {@linkplain DataCiteJson}
+     * results in the same JSON String as the tree based serialization.
+     */
+    @Test
+    public void testStreamingEqualsTreeSerialization()
+    {
+        final DataCiteJson document = createTestDocument();
+
+        final Gson treeGson = GsonUtils.createGerdiDocumentGsonBuilder().create();
+        final Gson streamingGson = GsonUtils.createGerdiDocumentStreamingGsonBuilder().create();
+
+        assertEquals("The streaming serialization of a DataCiteJson should be equal to the tree based serialization; ",
+                     treeGson.toJson(document),
+                     streamingGson.toJson(document));
+    }
+
+
+    /**
+     * Tests if a {@linkplain DataCiteJson} that is serialized and then deserialized
+     * via the streaming adapters is serialized to the same JSON String again.
+     */
+    @Test
+    public void testStreamingDeserialization()
+    {
+        final Gson streamingGson = GsonUtils.createGerdiDocumentStreamingGsonBuilder().create();
+        final String json = createTestDocument().toJson();
+
+        final DataCiteJson deserializedDocument = streamingGson.fromJson(json, DataCiteJson.class);
+
+        assertEquals("The streaming deserialization of a DataCiteJson should restore all fields; ",
+                     json,
+                     streamingGson.toJson(deserializedDocument));
+    }
+
+
+    /**
+     * Tests if appending the JSON representation of a {@linkplain DataCiteJson}
+     * to an {@linkplain Appendable} results in the same JSON String as {@linkplain DataCiteJson#toJson()}.
+     *
+     * @throws IOException thrown if the JSON could not be appended
+     */
+    @Test
+    public void testToJsonAppendable() throws IOException
+    {
+        final DataCiteJson document = createTestDocument();
+        final StringBuilder sb = new StringBuilder();
+        document.toJson(sb);
+
+        assertEquals("The method toJson(Appendable) should append the same JSON as toJson(); ",
+                     document.toJson(),
+                     sb.toString());
+    }
+
+
+    /**
+     * Tests if writing the JSON representation of a {@linkplain DataCiteJson}
+     * to an {@linkplain OutputStream} results in UTF-8 encoded bytes of {@linkplain DataCiteJson#toJson()}.
+     *
+     * @throws IOException thrown if the JSON could not be written
+     */
+    @Test
+    public void testWriteJson() throws IOException
+    {
+        final DataCiteJson document = createTestDocument();
+        document.addTitles(Arrays.asList(new Title("\u00DCberschrift \u03B1\u03B2\u03B3 \uD83C\uDF0D")));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        document.writeJson(out);
+
+        assertArrayEquals("The method writeJson(OutputStream) should write the UTF-8 bytes of toJson(); ",
+                          document.toJson().getBytes(StandardCharsets.UTF_8),
+                          out.toByteArray());
+    }
+
+
+    /**
+     * Tests if a {@linkplain DataCiteJson} with lazily cleaned elements is serialized
+     * to the same JSON String as a document with immediately cleaned elements,
+     * when serialized by {@linkplain Gson} directly.
+     */
+    @Test
+    public void testDeferredCleaningSerialization()
+    {
+        final Gson streamingGson = GsonUtils.createGerdiDocumentStreamingGsonBuilder().create();
+
+        assertEquals("Lazily cleaned documents should be serialized like immediately cleaned documents; ",
+                     createTestDocument(false).toJson(),
+                     streamingGson.toJson(createTestDocument(true)));
+    }
+
+
+    /**
+     * Tests if lazy cleaning remains enabled and subsequent additions are retained
+     * if an element cannot be cleaned.
+     */
+    @Test
+    public void testDeferredCleaningFailure()
+    {
+        final DataCiteJson document = new DataCiteJson(SOURCE_ID);
+        document.setDeferredCleaning(true);
+        document.addTitles(Arrays.asList(new Title("Broken") {
+            @Override
+            public boolean clean()
+            {
+                throw new IllegalStateException();
+            }
+        }));
+        document.addFormats(Arrays.asList("application/json"));
+
+        try {
+            document.getTitles();
+            fail("The exception of a failed cleaning should be passed on; ");
+        } catch (final IllegalStateException e) { // NOPMD the exception is expected
+        }
+
+        assertTrue("Lazy cleaning should remain enabled after a failed cleaning; ", document.isDeferredCleaning());
+        assertEquals("Additions that followed a failed cleaning should be retained; ",
+                     1,
+                     document.getFormats().size());
+    }
+
+
+    /**
+     * Tests if lazily cleaned elements are cleaned when they are read.
+     */
+    @Test
+    public void testDeferredCleaningRead()
+    {
+        final DataCiteJson deferredDocument = createTestDocument(true);
+        final DataCiteJson document = createTestDocument(false);
+
+        assertEquals("Lazily cleaned elements should be cleaned when they are read; ",
+                     document.getTitles(),
+                     deferredDocument.getTitles());
+        assertEquals("Lazily cleaned documents should equal immediately cleaned documents; ",
+                     document,
+                     deferredDocument);
+    }
+
+
+    /**
+     * Tests if a reset document equals a new document.
+     */
+    @Test
+    public void testReset()
+    {
+        final DataCiteJson document = createTestDocument();
+        document.reset("resetId");
+
+        assertEquals("A reset document should equal a new document; ",
+                     new DataCiteJson("resetId"),
+                     document);
+        assertEquals("A reset document should be serialized like a new document; ",
+                     new DataCiteJson("resetId").toJson(),
+                     document.toJson());
+    }
+
+
+    /**
+     * Tests if the set of a field that was emptied by a reset is still reused
+     * after an addition that did not add any valid elements.
+     */
+    @Test
+    public void testResetReusesSetAfterInvalidAddition()
+    {
+        final DataCiteJson document = createTestDocument();
+        final Set<Title> titles = document.getTitles();
+        document.reset("resetId");
+
+        document.addTitles(Arrays.asList((Title) null));
+        assertNull("Adding only invalid titles should not create a set; ", document.getTitles());
+
+        document.addTitles(Arrays.asList(new Title("Reused")));
+        assertSame("The recycled set of titles should be reused; ", titles, document.getTitles());
+    }
+
+
+    /**
+     * Tests if recurring metadata values of harvested documents are replaced by the
+     * same String instances, if interning is enabled.
+     */
+    @Test
+    public void testInterning()
+    {
+        StringUtils.setStringInterner(new StringInterner(64));
+
+        try {
+            final DataCiteJson first = new DataCiteJson(SOURCE_ID);
+            final DataCiteJson second = new DataCiteJson(SOURCE_ID);
+
+            for (final DataCiteJson document : Arrays.asList(first, second)) {
+                document.setLanguage(new String("en")); // NOPMD the instances must differ
+                document.setPublisher(new Publisher(new String("GFZ Data Services"))); // NOPMD the instances must differ
+                document.addFormats(Arrays.asList(new String("application/json"))); // NOPMD the instances must differ
+            }
+
+            final Affiliation firstAffiliation = new Affiliation(new String("GFZ")); // NOPMD the instances must differ
+            final NameIdentifier firstIdentifier = new NameIdentifier("0000", new String("ORCID")); // NOPMD the instances must differ
+
+            assertSame("The language should be interned; ", first.getLanguage(), second.getLanguage());
+            assertSame("The publisher name should be interned; ", first.getPublisher().getValue(), second.getPublisher().getValue());
+            assertSame("Formats should be interned; ", first.getFormats().iterator().next(), second.getFormats().iterator().next());
+            assertSame("Affiliation names should be interned; ", firstAffiliation.getValue(), new Affiliation(new String("GFZ")).getValue()); // NOPMD the instances must differ
+            assertSame("Name identifier schemes should be interned; ", firstIdentifier.getScheme(), new NameIdentifier("0001", new String("ORCID")).getScheme()); // NOPMD the instances must differ
+        } finally {
+            StringUtils.setStringInterner(null);
+        }
+    }
+
+
+    /**
+     * Tests if a reused document is serialized like a new document with the same metadata.
+     */
+    @Test
+    public void testResetReuse()
+    {
+        final DataCiteJsonPool pool = new DataCiteJsonPool(1);
+        pool.release(createTestDocument());
+
+        final DataCiteJson reusedDocument = pool.acquire(SOURCE_ID);
+        addTestMetadata(reusedDocument);
+
+        assertEquals("The released document should have been reused; ", 0, pool.getIdleCount());
+        assertEquals("A reused document should be serialized like a new document; ",
+                     createTestDocument().toJson(),
+                     reusedDocument.toJson());
+    }
+
+
+    /**
+     * Creates a {@linkplain DataCiteJson} that makes use of all
+     * custom (de-)serialization adapters.
+     *
+     * @return a {@linkplain DataCiteJson} with most fields set
+     */
+    static DataCiteJson createTestDocument()
+    {
+        return createTestDocument(false);
+    }
+
+
+    /**
+     * Creates a {@linkplain DataCiteJson} that makes use of all
+     * custom (de-)serialization adapters.
+     *
+     * @param isCleaningDeferred if true, the elements of the document are cleaned lazily
+     *
+     * @return a {@linkplain DataCiteJson} with most fields set
+     */
+    static DataCiteJson createTestDocument(final boolean isCleaningDeferred)
+    {
+        final DataCiteJson document = new DataCiteJson(SOURCE_ID);
+        document.setDeferredCleaning(isCleaningDeferred);
+        addTestMetadata(document);
+        return document;
+    }
+
+
+    /**
+     * Adds metadata to a {@linkplain DataCiteJson} that makes use of all
+     * custom (de-)serialization adapters.
+     *
+     * @param document the document to which the metadata is added
+     */
+    private static void addTestMetadata(final DataCiteJson document)
+    {
+        document.setPublisher(new Publisher("Test Publisher"));
+        document.setPublicationYear(2019);
+        document.setLanguage("en");
+
+        final Creator creator = new Creator("Doe, John");
+        creator.addAffiliations(Arrays.asList(new Affiliation("Kiel University")));
+        document.addCreators(Arrays.asList(creator, new Creator("Doe, Jane")));
+
+        document.addTitles(Arrays.asList(
+                               new Title("A &lt;b&gt;bold&lt;/b&gt; title"),
+                               new Title("Subtitle", TitleType.Subtitle, "en")));
+        document.addDescriptions(Arrays.asList(
+                                     new Description("<p>Some&nbsp;description</p>", DescriptionType.Abstract)));
+        document.addSubjects(Arrays.asList(new Subject("Geography", "en")));
+        document.addDates(Arrays.<AbstractDate>asList(
+                              new Date("2019-01-02T03:04:05Z", DateType.Created),
+                              new DateRange("1990", "2000", DateType.Collected)));
+        document.addFormats(Arrays.asList("application/json"));
+
+        final GeoLocation geoLocation = new GeoLocation("Kiel");
+        geoLocation.setPoint(10.1228, 54.3233);
+        geoLocation.setBox(10.0, 10.5, 54.0, 54.5);
+        document.addGeoLocations(Arrays.asList(geoLocation));
+
+        final FundingReference funding = new FundingReference("Test Funder");
+        funding.setFunderIdentifier(new FunderIdentifier("123", FunderIdentifierType.Crossref_Funder_ID));
+        document.addFundingReferences(Arrays.asList(funding));
+
+        document.addWebLinks(Arrays.asList(new WebLink("https://www.gerdi-project.de", "GeRDI", WebLinkType.ViewURL)));
+        document.addResearchDisciplines(Arrays.<AbstractResearch>asList(
+                                            ResearchDisciplineConstants.PREHISTORY,
+                                            ResearchAreaConstants.ANCIENT_CULTURES));
+
+        final SoepDataCiteExtension soepExtension = new SoepDataCiteExtension();
+        soepExtension.addSoepDatasetVariables(Arrays.asList(new SoepVariable("var", "source")));
+        document.addExtension(soepExtension);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.fingerprint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.gerdiproject.json.GsonUtils;
+import de.gerdiproject.json.datacite.Creator;
+import de.gerdiproject.json.datacite.DataCiteJson;
+import de.gerdiproject.json.datacite.GeoLocation;
+import de.gerdiproject.json.datacite.Subject;
+import de.gerdiproject.json.datacite.Title;
+
+/**
+ * This class provides test cases for the {@linkplain JsonFingerprinter}
+ * and its usage in {@linkplain DataCiteJson}.
+ *
+ * @author Robin Weiss
+ */
+public class JsonFingerprinterTest
+{
+    private static final String SOURCE_ID = "testSourceId";
+
+
+    /**
+     * Tests if the order in which set elements are added does not change the fingerprint.
+     */
+    @Test
+    public void testSetOrderIndependence()
+    {
+        final DataCiteJson document = createTestDocument("Title A", "Title B", "Title C");
+        final DataCiteJson reorderedDocument = createTestDocument("Title C", "Title A", "Title B");
+
+        assertEquals("The order of set elements should not change the fingerprint; ",
+                     document.calculateFingerprint(),
+                     reorderedDocument.calculateFingerprint());
+    }
+
+
+    /**
+     * Tests if changing a single value changes the fingerprint.
+     */
+    @Test
+    public void testValueChange()
+    {
+        final DataCiteJson document = createTestDocument("Title A", "Title B", "Title C");
+        final DataCiteJson changedDocument = createTestDocument("Title A", "Title B", "Title D");
+
+        assertNotEquals("A changed title should change the fingerprint; ",
+                        document.calculateFingerprint(),
+                        changedDocument.calculateFingerprint());
+    }
+
+
+    /**
+     * Tests if the order of list elements changes the fingerprint.
+     */
+    @Test
+    public void testListOrderDependence()
+    {
+        final DataCiteJson document = createTestDocument("Title A");
+        final DataCiteJson reorderedDocument = new DataCiteJson(SOURCE_ID);
+        reorderedDocument.addTitles(Arrays.asList(new Title("Title A")));
+        reorderedDocument.addCreators(Arrays.asList(new Creator("Doe, Jane"), new Creator("Doe, John")));
+        reorderedDocument.addSubjects(Arrays.asList(new Subject("Geography", "en")));
+
+        assertNotEquals("The order of creators should change the fingerprint; ",
+                        document.calculateFingerprint(),
+                        reorderedDocument.calculateFingerprint());
+    }
+
+
+    /**
+     * Tests if a deserialized document matches the fingerprint of the original document.
+     */
+    @Test
+    public void testDeserializedFingerprint()
+    {
+        final DataCiteJson document = createTestDocument("Title A", "Title B", "Title C");
+        final GeoLocation geoLocation = new GeoLocation("Kiel");
+        geoLocation.setPoint(10.1228, 54.3233);
+        document.addGeoLocations(Arrays.asList(geoLocation));
+
+        final DataCiteJson deserializedDocument = GsonUtils.createGerdiDocumentStreamingGsonBuilder()
+                                                  .create()
+                                                  .fromJson(document.toJson(), DataCiteJson.class);
+
+        assertTrue("A deserialized document should match the fingerprint of the original document; ",
+                   deserializedDocument.matchesFingerprint(document.calculateFingerprint()));
+    }
+
+
+    /**
+     * Creates a {@linkplain DataCiteJson} with specified titles.
+     *
+     * @param titles the titles of the document
+     *
+     * @return a {@linkplain DataCiteJson} with two creators, a subject, and the specified titles
+     */
+    private static DataCiteJson createTestDocument(final String... titles)
+    {
+        final DataCiteJson document = new DataCiteJson(SOURCE_ID);
+
+        for (final String title : titles)
+            document.addTitles(Arrays.asList(new Title(title)));
+
+        document.addCreators(Arrays.asList(new Creator("Doe, John"), new Creator("Doe, Jane")));
+        document.addSubjects(Arrays.asList(new Subject("Geography", "en")));
+
+        return document;
+    }
+}
@@ -105,6 +105,64 @@ public class GeometryAdapterTest
     }
 
 
+    /**
+     * Tests if a {@linkplain Geometry} that is deserialized and then serialized again
+     * via the streaming adapters is equal to the original JSON String.
+     */
+    @Test
+    public void testStreamingSerializedString()
+    {
+        final Gson gson = GsonUtils.createGeoJsonStreamingGsonBuilder().create();
+
+        final Geometry geo = gson.fromJson(testVo.getJson(), Geometry.class);
+        final String serializedGeo = gson.toJson(geo);
+
+        assertEquals(
+            String.format("The streaming serialization of a deserialized %ss should return the original JSON String; ", testVo.getGeometryType()),
+            testVo.getJson(),
+            serializedGeo);
+    }
+
+
+    /**
+     * Tests if the streaming adapters produce the same JSON String as the
+     * tree based adapters when a precision is specified.
+     */
+    @Test
+    public void testStreamingEqualsTreeSerialization()
+    {
+        final int maxDecimalPlaces = 3;
+        final Gson treeGson = GsonUtils.createGeoJsonGsonBuilder(maxDecimalPlaces).create();
+        final Gson streamingGson = GsonUtils.createGeoJsonStreamingGsonBuilder(maxDecimalPlaces).create();
+
+        final Geometry geo = treeGson.fromJson(testVo.getJson(), Geometry.class);
+
+        assertEquals(
+            String.format("The streaming serialization of %ss should be equal to the tree based serialization; ", testVo.getGeometryType()),
+            treeGson.toJson(geo),
+            streamingGson.toJson(geo));
+    }
+
+
+    /**
+     * Tests if a {@linkplain Geometry} that is deserialized into packed coordinate sequences
+     * and then serialized again is equal to the original JSON String.
+     */
+    @Test
+    public void testPackedStreamingSerializedString()
+    {
+        final Gson gson = GsonUtils.createGeoJsonPackedStreamingGsonBuilder().create();
+
+        final Geometry geo = gson.fromJson(testVo.getJson(), Geometry.class);
+        final String serializedGeo = gson.toJson(geo);
+
+        assertEquals(
+            String.format("The packed streaming serialization of a deserialized %ss should return the original JSON String; ", testVo.getGeometryType()),
+            testVo.getJson(),
+            serializedGeo);
+    }
+
+
     /**
      * Tests if a serialized {@linkplain Geometry} with a specified precision only contains
      * coordinates with the expected number of decimal places.
@@ -52,6 +52,9 @@ public class GeometryCleanerTestConstants
     private static final String BOX_WITH_OVERLAPPING_HOLE_FIXED = createPoly("[[0,0], [0,4], [4,4], [4,1], [3,1], [3,0], [0,0]]");
     private static final String BOX_WITH_HOLES_FIXED = createPoly("[[0,0], [0,1], [1,1], [1,3], [0,3], [0,4], [4,4], [4,1], [3,1], [3,0], [0,0]]", INSIDE_HOLE);
 
+    private static final String CONVEX_PLAIN = createPoly("[[0,0], [-1,2], [0,4], [4,4], [5,2], [4,0], [0,0]]");
+    private static final String DOUBLE_WOUND_PLAIN = createPoly("[[0,0], [0,4], [4,4], [4,0], [0,0], [0,4], [4,4], [4,0], [0,0]]");
+
     private static final String HOURGLASS_HULL = "[[0,0], [0,4], [4,0], [4,4], [0,0]]";
     private static final String HOURGLASS_PLAIN = createPoly(HOURGLASS_HULL);
     private static final String HOURGLASS_WITH_HOLE = createPoly(HOURGLASS_HULL, INSIDE_HOLE);
@@ -87,6 +90,15 @@ public class GeometryCleanerTestConstants
                                                                  createShape(HOURGLASS_SPLIT_LEFT3),
                                                                  createShape(HOURGLASS_SPLIT_RIGHT, INSIDE_HOLE));
 
+    private static final String DISTANT_BOX_HULL = "[[10,0], [10,4], [14,4], [14,0], [10,0]]";
+    private static final String MULTI_HOURGLASS_PLAIN = createMultiPoly(
+                                                            createShape(HOURGLASS_HULL),
+                                                            createShape(DISTANT_BOX_HULL));
+    private static final String MULTI_HOURGLASS_PLAIN_FIXED = createMultiPoly(
+                                                                  createShape(HOURGLASS_PART_LEFT),
+                                                                  createShape(HOURGLASS_PART_RIGHT),
+                                                                  createShape(DISTANT_BOX_HULL));
+
     private static final String POINT_JSON = "{\"coordinates\": [123.456, 789], \"type\": \"Point\"}";
 
     public static final GeometryTestVO[] TEST_CASES = createTestCases();
@@ -119,6 +131,8 @@ public class GeometryCleanerTestConstants
             new GeometryTestVO("Polygon + Outside Hole", BOX_WITH_OUTSIDE_HOLE, BOX_PLAIN, false),
             new GeometryTestVO("Polygon + Partly Outside Hole", BOX_WITH_OVERLAPPING_HOLE, BOX_WITH_OVERLAPPING_HOLE_FIXED, false),
             new GeometryTestVO("Polygon + All Holes", BOX_WITH_HOLES, BOX_WITH_HOLES_FIXED, false),
+            new GeometryTestVO("Convex Polygon", CONVEX_PLAIN, CONVEX_PLAIN, true),
+            new GeometryTestVO("Polygon + Double-wound Hull", DOUBLE_WOUND_PLAIN, BOX_PLAIN, false),
 
             new GeometryTestVO("Polygon + Self-intersection", HOURGLASS_PLAIN, HOURGLASS_PLAIN_FIXED, false),
             new GeometryTestVO("Polygon + Self-intersection + Hole", HOURGLASS_WITH_HOLE, HOURGLASS_WITH_HOLE_FIXED, false),
@@ -127,6 +141,8 @@ public class GeometryCleanerTestConstants
             new GeometryTestVO("Polygon + Self-intersection + Partly Outside Hole", HOURGLASS_WITH_OVERLAPPING_HOLE, HOURGLASS_WITH_OVERLAPPING_HOLE_FIXED, false),
             new GeometryTestVO("Polygon + Self-intersection + All Holes", HOURGLASS_WITH_HOLES, HOURGLASS_WITH_HOLES_FIXED, false),
 
+            new GeometryTestVO("MultiPolygon + Self-intersection", MULTI_HOURGLASS_PLAIN, MULTI_HOURGLASS_PLAIN_FIXED, false),
+
             new GeometryTestVO("Point", POINT_JSON, POINT_JSON, true)
         };
         return testCases;
@@ -0,0 +1,94 @@
+/*
+ *  Copyright © 2019 Robin Weiss (http://www.gerdi-project.de/)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package de.gerdiproject.json.geo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.vividsolutions.jts.geom.Geometry;
+
+import de.gerdiproject.json.GsonUtils;
+
+/**
+ * This class provides test cases for the {@linkplain ValidatedGeometryCache} class.
+ *
+ * @author Robin Weiss
+ */
+public class ValidatedGeometryCacheTest
+{
+    private static final String HOURGLASS_JSON = "{\"coordinates\": [[[0,0], [0,4], [4,0], [4,4], [0,0]]], \"type\": \"Polygon\"}";
+    private static final String OTHER_HOURGLASS_JSON = "{\"coordinates\": [[[0,0], [0,5], [5,0], [5,5], [0,0]]], \"type\": \"Polygon\"}";
+
+    private final Gson gson = GsonUtils.createGeoJsonGsonBuilder().create();
+
+
+    /**
+     * Disables the cache after each test, in order to not affect other tests.
+     */
+    @After
+    public void after()
+    {
+        GeometryCleaner.setValidatedGeometryCache(null);
+    }
+
+
+    /**
+     * Tests if validating two structurally identical geometries returns the same
+     * cached object the second time.
+     */
+    @Test
+    public void testCacheHit()
+    {
+        final ValidatedGeometryCache cache = new ValidatedGeometryCache(8);
+        GeometryCleaner.setValidatedGeometryCache(cache);
+
+        final Geometry first = GeometryCleaner.validate(gson.fromJson(HOURGLASS_JSON, Geometry.class));
+        final Geometry second = GeometryCleaner.validate(gson.fromJson(HOURGLASS_JSON, Geometry.class));
+
+        assertSame("Validating an identical geometry twice should return the cached result; ",
+                   first,
+                   second);
+        assertEquals("The cache should have registered exactly one hit; ",
+                     1L,
+                     cache.getHitCount());
+    }
+
+
+    /**
+     * Tests if geometries with different coordinates are validated separately.
+     */
+    @Test
+    public void testCacheMiss()
+    {
+        final ValidatedGeometryCache cache = new ValidatedGeometryCache(8);
+        GeometryCleaner.setValidatedGeometryCache(cache);
+
+        GeometryCleaner.validate(gson.fromJson(HOURGLASS_JSON, Geometry.class));
+        GeometryCleaner.validate(gson.fromJson(OTHER_HOURGLASS_JSON, Geometry.class));
+
+        assertEquals("Validating two different geometries should result in two cache misses; ",
+                     2L,
+                     cache.getMissCount());
+        assertEquals("Both validated geometries should be cached; ",
+                     2,
+                     cache.size());
+    }
+}